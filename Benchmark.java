@@ -0,0 +1,457 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark measures the operations of our lists against the lists that
+ * come with Java. Every operation is run on lists from 10 to 1,000,000
+ * items with java.util.LinkedList and ArrayDeque as baselines, and each
+ * result reports the time and the bytes allocated per operation. The
+ * contended section runs the queues and stacks from several threads at
+ * once.
+ *
+ * Each case is warmed up before it is timed so the JIT has compiled it,
+ * and results are written to a field so the work can't be optimized away.
+ * Operations that would change the size of the list are paired with one
+ * that puts it back, so every case runs at the size it reports.
+ *
+ * Usage: java Benchmark [max size] [milliseconds per case]
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class Benchmark
+{
+    //Sizes every single threaded case is run at, capped by the max size
+    private static final int[] SIZES = {10, 100, 1000, 10000, 100000,
+        1000000};
+
+    //Boxed once so the cases don't allocate anything but their own work
+    private static final Integer VALUE = 7;
+
+    //Reads the bytes allocated by a thread, null if the JVM can't
+    private static final com.sun.management.ThreadMXBean ALLOCATION =
+        allocationBean();
+
+    //Results are written here so the JIT can't drop the work
+    private static volatile Object sink;
+
+    //Time spent warming up and measuring each case
+    private static long warmupMillis = 200;
+    private static long measureMillis = 500;
+
+    /**
+     * allocationBean returns the thread bean with allocation counting
+     * turned on, or null if this JVM doesn't support it.
+     *
+     * @return ThreadMXBean able to count allocated bytes, or null
+     */
+    private static com.sun.management.ThreadMXBean allocationBean(){
+        try{
+            com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+
+            if(bean.isThreadAllocatedMemorySupported()){
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        }catch(ClassCastException | UnsupportedOperationException e){
+            System.err.println("Allocation rates unavailable: "
+                + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * allocated returns the bytes allocated so far by the current thread.
+     *
+     * @return long bytes allocated, zero if they can't be counted
+     */
+    private static long allocated(){
+        if(ALLOCATION == null){
+            return 0;
+        }
+        return ALLOCATION.getThreadAllocatedBytes(
+            Thread.currentThread().getId());
+    }
+
+    /**
+     * run calls an operation repeatedly until the given time has passed
+     * and returns how many calls were made. The clock is read once per
+     * batch of calls so reading it doesn't dominate quick operations.
+     *
+     * @param Runnable operation to call
+     * @param long millis how long to keep calling it
+     * @return long number of calls made
+     */
+    private static long run(Runnable operation, long millis){
+        long calls = 0;
+        long batch = 1;
+        long end = System.nanoTime() + millis * 1000000;
+
+        while(System.nanoTime() < end){
+            for(long i = 0; i < batch; i++){
+                operation.run();
+            }
+            calls += batch;
+
+            //Grow the batch until each one takes a noticeable time
+            if(batch < 1024){
+                batch *= 2;
+            }
+        }
+
+        return calls;
+    }
+
+    /**
+     * measure warms up an operation, then times it and counts what it
+     * allocates, and prints one row of results.
+     *
+     * @param String operation name of the operation
+     * @param String implementation name of the list being measured
+     * @param int size number of items in the list
+     * @param Runnable body one call of the operation
+     */
+    private static void measure(String operation, String implementation,
+        int size, Runnable body){
+        run(body, warmupMillis);
+
+        long bytes = allocated();
+        long begin = System.nanoTime();
+        long calls = run(body, measureMillis);
+        long nanos = System.nanoTime() - begin;
+        bytes = allocated() - bytes;
+
+        System.out.printf("%-10s %-22s %9d %14.1f %12s%n", operation,
+            implementation, size, (double) nanos / calls,
+            ALLOCATION == null ? "n/a"
+                : String.format("%.1f", (double) bytes / calls));
+    }
+
+    /**
+     * fill appends the numbers from zero up to a list.
+     *
+     * @param List list to fill
+     * @param int size number of items to append
+     * @return List the same list
+     */
+    private static <L extends List<Integer>> L fill(L list, int size){
+        for(int i = 0; i < size; i++){
+            list.append(i);
+        }
+        return list;
+    }
+
+    /**
+     * fill adds the numbers from zero up to a Java collection.
+     *
+     * @param Collection collection to fill
+     * @param int size number of items to add
+     * @return Collection the same collection
+     */
+    private static <C extends java.util.Collection<Integer>> C fill(
+        C collection, int size){
+        for(int i = 0; i < size; i++){
+            collection.add(i);
+        }
+        return collection;
+    }
+
+    /**
+     * singleThreaded measures each operation at one size for our lists
+     * and the baselines.
+     *
+     * @param int size number of items in each list
+     */
+    private static void singleThreaded(final int size){
+        final int middle = size / 2;
+
+        //insert changes the item in the middle of the list
+        final List<Integer> list = fill(new List<Integer>(), size);
+        final LinkedList<Integer> linked = fill(new LinkedList<Integer>(),
+            size);
+        measure("insert", "List", size, () -> list.insert(VALUE, middle));
+        measure("insert", "LinkedList.set", size,
+            () -> linked.set(middle, VALUE));
+
+        //get reads the middle item
+        final IndexedSkipList<Integer> skip = new IndexedSkipList<Integer>();
+        for(int i = 0; i < size; i++){
+            skip.append(i);
+        }
+        measure("get", "List", size, () -> sink = list.get(middle));
+        measure("get", "IndexedSkipList", size, () -> sink = skip.get(middle));
+        measure("get", "LinkedList", size, () -> sink = linked.get(middle));
+
+        //remove takes the middle item, then an append restores the size
+        measure("remove", "List", size, () -> {
+            sink = list.remove(middle);
+            list.append(VALUE);
+        });
+        measure("remove", "IndexedSkipList", size, () -> {
+            sink = skip.remove(middle);
+            skip.append(VALUE);
+        });
+        measure("remove", "LinkedList", size, () -> {
+            sink = linked.remove(middle);
+            linked.add(VALUE);
+        });
+
+        //dequeue takes the oldest item, then an enqueue restores the size
+        final Queue<Integer> queue = fill(new Queue<Integer>(), size);
+        final LinkedList<Integer> linkedQueue =
+            fill(new LinkedList<Integer>(), size);
+        final ArrayDeque<Integer> arrayQueue =
+            fill(new ArrayDeque<Integer>(), size);
+        measure("dequeue", "Queue", size, () -> {
+            queue.enqueue(VALUE);
+            sink = queue.dequeue();
+        });
+        final Queue<Integer> pooledQueue = fill(new Queue<Integer>(), size);
+        pooledQueue.setNodePoolSize(64);
+        measure("dequeue", "Queue (node pool)", size, () -> {
+            pooledQueue.enqueue(VALUE);
+            sink = pooledQueue.dequeue();
+        });
+        final RingQueue<Integer> ringQueue = new RingQueue<Integer>();
+        for(int i = 0; i < size; i++){
+            ringQueue.enqueue(i);
+        }
+        measure("dequeue", "RingQueue", size, () -> {
+            ringQueue.enqueue(VALUE);
+            sink = ringQueue.dequeue();
+        });
+        measure("dequeue", "LinkedList.poll", size, () -> {
+            linkedQueue.offer(VALUE);
+            sink = linkedQueue.poll();
+        });
+        measure("dequeue", "ArrayDeque.poll", size, () -> {
+            arrayQueue.offer(VALUE);
+            sink = arrayQueue.poll();
+        });
+
+        //polling an empty queue is a miss that nothing is reported for
+        final Queue<Integer> drainedQueue = new Queue<Integer>();
+        final ArrayDeque<Integer> drainedArray = new ArrayDeque<Integer>();
+        drainedQueue.setErrorPolicy(ErrorPolicy.SILENT);
+        measure("poll", "Queue.dequeue (silent)", 0,
+            () -> sink = drainedQueue.dequeue());
+        measure("poll", "Queue.poll", 0,
+            () -> sink = drainedQueue.poll());
+        measure("poll", "ArrayDeque.poll", 0,
+            () -> sink = drainedArray.poll());
+
+        //pop takes the top item after a push puts one there
+        final Stack<Integer> stack = fill(new Stack<Integer>(), size);
+        final LinkedList<Integer> linkedStack =
+            fill(new LinkedList<Integer>(), size);
+        final ArrayDeque<Integer> arrayStack =
+            fill(new ArrayDeque<Integer>(), size);
+        measure("pop", "Stack", size, () -> {
+            stack.push(VALUE);
+            sink = stack.pop();
+        });
+        final Stack<Integer> pooledStack = fill(new Stack<Integer>(), size);
+        pooledStack.setNodePoolSize(64);
+        measure("pop", "Stack (node pool)", size, () -> {
+            pooledStack.push(VALUE);
+            sink = pooledStack.pop();
+        });
+        final RingStack<Integer> ringStack = new RingStack<Integer>();
+        for(int i = 0; i < size; i++){
+            ringStack.push(i);
+        }
+        measure("pop", "RingStack", size, () -> {
+            ringStack.push(VALUE);
+            sink = ringStack.pop();
+        });
+        measure("pop", "LinkedList.pop", size, () -> {
+            linkedStack.push(VALUE);
+            sink = linkedStack.pop();
+        });
+        measure("pop", "ArrayDeque.pop", size, () -> {
+            arrayStack.push(VALUE);
+            sink = arrayStack.pop();
+        });
+
+        //indexOf looks for a missing item so it scans the whole list
+        final Integer missing = -1;
+        measure("indexOf", "List", size, () -> sink = list.indexOf(missing));
+        final List<Integer> indexed = fill(new List<Integer>(), size);
+        final Integer present = middle;
+        indexed.enableValueIndex();
+        measure("indexOf", "List (value index)", size,
+            () -> sink = indexed.indexOf(present));
+        measure("indexOf", "LinkedList", size,
+            () -> sink = linked.indexOf(missing));
+        measure("indexOf", "ArrayDeque.contains", size,
+            () -> sink = arrayQueue.contains(missing));
+
+        measure("toString", "List", size, () -> sink = list.toString());
+        measure("toString", "LinkedList", size,
+            () -> sink = linked.toString());
+        measure("toString", "ArrayDeque", size,
+            () -> sink = arrayQueue.toString());
+    }
+
+    /**
+     * contended has a number of threads each run an operation over and
+     * over on a shared list until the measuring time is up, and prints
+     * the combined operations per microsecond.
+     *
+     * @param String operation name of the operation
+     * @param String implementation name of the list being measured
+     * @param int threads number of threads sharing the list
+     * @param Runnable body one call of the operation
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static void contended(String operation, String implementation,
+        int threads, final Runnable body) throws InterruptedException{
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean measuring = new AtomicBoolean(false);
+        final AtomicBoolean stop = new AtomicBoolean(false);
+        final LongAdder calls = new LongAdder();
+        Thread[] workers = new Thread[threads];
+
+        for(int i = 0; i < threads; i++){
+            workers[i] = new Thread(() -> {
+                try{
+                    start.await();
+                }catch(InterruptedException e){
+                    return;
+                }
+                while(!stop.get()){
+                    for(int j = 0; j < 64; j++){
+                        body.run();
+                    }
+                    if(measuring.get()){
+                        calls.add(64);
+                    }
+                }
+            });
+            workers[i].start();
+        }
+
+        start.countDown();
+        Thread.sleep(warmupMillis);
+        measuring.set(true);
+        long begin = System.nanoTime();
+        Thread.sleep(measureMillis);
+        measuring.set(false);
+        long nanos = System.nanoTime() - begin;
+        stop.set(true);
+
+        for(Thread worker : workers){
+            worker.join();
+        }
+
+        System.out.printf("%-10s %-22s %9d %14.2f%n", operation,
+            implementation, threads, calls.sum() * 1000.0 / nanos);
+    }
+
+    /**
+     * multiThreaded measures the queues and stacks being shared by a
+     * number of threads, each doing an add and a take per operation.
+     *
+     * @param int threads number of threads sharing each list
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static void multiThreaded(int threads)
+        throws InterruptedException{
+        final Queue<Integer> queue = fill(new Queue<Integer>(), 1000);
+        contended("dequeue", "synchronized Queue", threads, () -> {
+            synchronized(queue){
+                queue.enqueue(VALUE);
+                sink = queue.dequeue();
+            }
+        });
+
+        final ConcurrentQueue<Integer> concurrentQueue =
+            new ConcurrentQueue<Integer>();
+        for(int i = 0; i < 1000; i++){
+            concurrentQueue.enqueue(i);
+        }
+        contended("dequeue", "ConcurrentQueue", threads, () -> {
+            concurrentQueue.enqueue(VALUE);
+            sink = concurrentQueue.dequeue();
+        });
+
+        final StripedQueue<Integer> stripedQueue =
+            new StripedQueue<Integer>();
+        for(int i = 0; i < 1000; i++){
+            stripedQueue.enqueue(i);
+        }
+        contended("dequeue", "StripedQueue", threads, () -> {
+            stripedQueue.enqueue(VALUE);
+            sink = stripedQueue.dequeue();
+        });
+
+        final ConcurrentLinkedQueue<Integer> javaQueue =
+            fill(new ConcurrentLinkedQueue<Integer>(), 1000);
+        contended("dequeue", "ConcurrentLinkedQueue", threads, () -> {
+            javaQueue.offer(VALUE);
+            sink = javaQueue.poll();
+        });
+
+        final Stack<Integer> stack = fill(new Stack<Integer>(), 1000);
+        contended("pop", "synchronized Stack", threads, () -> {
+            synchronized(stack){
+                stack.push(VALUE);
+                sink = stack.pop();
+            }
+        });
+
+        final ConcurrentStack<Integer> concurrentStack =
+            new ConcurrentStack<Integer>();
+        for(int i = 0; i < 1000; i++){
+            concurrentStack.push(i);
+        }
+        contended("pop", "ConcurrentStack", threads, () -> {
+            concurrentStack.push(VALUE);
+            sink = concurrentStack.pop();
+        });
+
+        final ConcurrentLinkedDeque<Integer> javaStack =
+            fill(new ConcurrentLinkedDeque<Integer>(), 1000);
+        contended("pop", "ConcurrentLinkedDeque", threads, () -> {
+            javaStack.push(VALUE);
+            sink = javaStack.pop();
+        });
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        int maxSize = SIZES[SIZES.length - 1];
+
+        if(args.length > 0){
+            maxSize = Integer.parseInt(args[0]);
+        }
+        if(args.length > 1){
+            measureMillis = Long.parseLong(args[1]);
+            warmupMillis = Math.max(1, measureMillis / 2);
+        }
+
+        System.out.println("\n Single Threaded \n");
+        System.out.printf("%-10s %-22s %9s %14s %12s%n", "operation",
+            "implementation", "size", "ns/op", "bytes/op");
+        for(int size : SIZES){
+            if(size <= maxSize){
+                singleThreaded(size);
+            }
+        }
+
+        System.out.println("\n Contended \n");
+        System.out.printf("%-10s %-22s %9s %14s%n", "operation",
+            "implementation", "threads", "ops/us");
+        int cores = Runtime.getRuntime().availableProcessors();
+        for(int threads = 1; threads <= Math.max(4, cores); threads *= 2){
+            multiThreaded(threads);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BoundedQueue is a queue with a fixed capacity that threads can wait on.
+ * A producer that puts into a full queue waits until a consumer makes
+ * room, and a consumer that takes from an empty queue waits until a
+ * producer adds something, so neither side has to poll in a loop and a
+ * fast producer can't fill the heap.
+ *
+ * The items are kept in a Queue guarded by one lock. Waiting is done on
+ * that lock's conditions rather than with synchronized and wait, so a
+ * virtual thread that waits gives up its carrier thread instead of
+ * pinning it. The queue also keeps the nodes it unlinks, up to its
+ * capacity, so a busy queue stops allocating once it has been full.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class BoundedQueue<T>
+{
+    //Most nodes kept for reuse, however large the capacity is
+    private static final int MAX_POOL = 1024;
+
+    //Items in the queue, only touched while holding the lock
+    private final Queue<T> items = new Queue<T>();
+
+    //Most items the queue will hold
+    private final int capacity;
+
+    //Guards items, and is what producers and consumers wait on
+    private final ReentrantLock lock = new ReentrantLock();
+
+    //Signalled when an item is added
+    private final Condition notEmpty = lock.newCondition();
+
+    //Signalled when an item is taken
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Capacity argument constructor creates an empty queue that will
+     * hold at most the given number of items.
+     *
+     * @param int capacity most items the queue will hold
+     */
+    public BoundedQueue(int capacity){
+        if(capacity <= 0){
+            throw new IllegalArgumentException("Capacity must be greater"
+                + " than zero");
+        }
+
+        this.capacity = capacity;
+        items.setNodePoolSize(Math.min(capacity, MAX_POOL));
+    }
+
+    /**
+     * put adds an item to the end of the queue, waiting for room if the
+     * queue is full.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T next) throws InterruptedException{
+        lock.lockInterruptibly();
+        try{
+            while(items.size() == capacity){
+                notFull.await();
+            }
+            add(next);
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * offer adds an item to the end of the queue if there is room for it
+     * right now.
+     *
+     * @param T next item to be added
+     * @return boolean true if the item was added, false if it was full
+     */
+    public boolean offer(T next){
+        lock.lock();
+        try{
+            if(items.size() == capacity){
+                return false;
+            }
+            add(next);
+            return true;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * offer with a timeout adds an item to the end of the queue, waiting
+     * up to the given time for room if the queue is full.
+     *
+     * @param T next item to be added
+     * @param long timeout how long to wait
+     * @param TimeUnit unit of the timeout
+     * @return boolean true if the item was added, false if time ran out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T next, long timeout, TimeUnit unit)
+        throws InterruptedException{
+        long remaining = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try{
+            while(items.size() == capacity){
+                if(remaining <= 0){
+                    return false;
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            add(next);
+            return true;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * take returns the item at the front of the queue, waiting for one if
+     * the queue is empty.
+     *
+     * @return T at front of queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException{
+        lock.lockInterruptibly();
+        try{
+            while(items.isEmpty()){
+                notEmpty.await();
+            }
+            return remove();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * poll returns the item at the front of the queue if there is one
+     * right now. An empty queue is not reported.
+     *
+     * @return T at front of queue, null if the queue is empty
+     */
+    public T poll(){
+        lock.lock();
+        try{
+            return items.isEmpty() ? null : remove();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * poll with a timeout returns the item at the front of the queue,
+     * waiting up to the given time for one if the queue is empty.
+     *
+     * @param long timeout how long to wait
+     * @param TimeUnit unit of the timeout
+     * @return T at front of queue, null if time ran out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException{
+        long remaining = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try{
+            while(items.isEmpty()){
+                if(remaining <= 0){
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return remove();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * drainTo moves up to the given number of items into a collection in
+     * the order they would be taken, without waiting, and wakes as many
+     * waiting producers as there is now room for.
+     *
+     * @param Collection target to add the items to
+     * @param int max most items to move
+     * @return int number of items moved
+     */
+    public int drainTo(Collection<? super T> target, int max){
+        lock.lock();
+        try{
+            Queue<T> batch = items.dequeue(max);
+            int moved = batch.drainTo(target);
+
+            for(int i = 0; i < moved; i++){
+                notFull.signal();
+            }
+            return moved;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * add enqueues an item and wakes one waiting consumer. The lock must
+     * be held.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     */
+    private void add(T next){
+        items.enqueue(next);
+        notEmpty.signal();
+    }
+
+    /**
+     * remove dequeues an item and wakes one waiting producer. The lock
+     * must be held and the queue must not be empty.
+     *
+     * @return T item that was at the front
+     */
+    private T remove(){
+        T retVal = items.poll();
+        notFull.signal();
+        return retVal;
+    }
+
+    /**
+     * Size will return the number of items in the queue. With other
+     * threads running it may be out of date as soon as it returns.
+     *
+     * @return int size is the number of items in the queue
+     */
+    public int size(){
+        lock.lock();
+        try{
+            return items.size();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * isEmpty checks to see if the queue is empty.
+     *
+     * @return boolean true if queue is empty
+     */
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    /**
+     * capacity returns the most items the queue will hold.
+     *
+     * @return int capacity of the queue
+     */
+    public int capacity(){
+        return capacity;
+    }
+
+    /**
+     * remainingCapacity returns how many more items can be added before
+     * the queue is full.
+     *
+     * @return int room left in the queue
+     */
+    public int remainingCapacity(){
+        return capacity - size();
+    }
+
+    /**
+     * toString will enumerate the queue and return it as a string with
+     * values separated by white space, newest first like Queue.
+     *
+     * @return String enumeration of queue
+     */
+    @Override
+    public String toString(){
+        lock.lock();
+        try{
+            return items.toString();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        BoundedQueue<Integer> a = new BoundedQueue<Integer>(2);
+
+        //Capacity Tests
+        assert(a.offer(1) && a.offer(2)): "two items should fit";
+        assert(!a.offer(3)): "full queue should refuse an offer";
+        assert(a.remainingCapacity() == 0): "no room should be left";
+        assert(!a.offer(3, 10, TimeUnit.MILLISECONDS)): "offer times out";
+        System.out.println("a when full: " + a.toString());
+
+        assert(a.take() == 1 && a.poll() == 2): "items should be FIFO";
+        assert(a.poll() == null): "empty poll should be null";
+        assert(a.poll(10, TimeUnit.MILLISECONDS) == null): "poll times out";
+
+        //A blocked put goes ahead as soon as a take makes room
+        a.put(4);
+        a.put(5);
+        final BoundedQueue<Integer> shared = a;
+        Thread producer = new Thread(() -> {
+            try{
+                shared.put(6);
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(20);
+        assert(a.size() == 2): "put should wait while the queue is full";
+        assert(a.take() == 4): "take should make room";
+        producer.join();
+        assert(a.size() == 2): "waiting put should have finished";
+
+        //Interrupting a waiting take stops it
+        a.drainTo(new ArrayList<Integer>(), 10);
+        Thread consumer = new Thread(() -> {
+            try{
+                shared.take();
+                assert(false): "take on empty queue should wait";
+            }catch(InterruptedException e){
+                System.out.println("Interrupted take");
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+
+        //Producers and consumers pass every item through a small queue
+        final BoundedQueue<Integer> pipe = new BoundedQueue<Integer>(16);
+        final int producers = 4;
+        final int perProducer = 100000;
+        final long[] sums = new long[producers];
+        Thread[] threads = new Thread[producers * 2];
+
+        for(int p = 0; p < producers; p++){
+            threads[p] = new Thread(() -> {
+                try{
+                    for(int i = 1; i <= perProducer; i++){
+                        pipe.put(i);
+                    }
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for(int c = 0; c < producers; c++){
+            final int id = c;
+            threads[producers + c] = new Thread(() -> {
+                try{
+                    for(int i = 0; i < perProducer; i++){
+                        sums[id] += pipe.take();
+                    }
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long total = 0;
+        for(long sum : sums){
+            total += sum;
+        }
+        assert(total == (long) producers * perProducer * (perProducer + 1)
+            / 2): "every item should be taken once";
+        assert(pipe.isEmpty()): "pipe should be empty";
+        System.out.println("put/take pairs per second: "
+            + (long) producers * perProducer * 1000000000L / elapsed);
+    }
+}
@@ -0,0 +1,413 @@
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * ConcurrentQueue is a thread safe version of our queue that doesn't use
+ * a lock. It follows the non-blocking design by Michael and Scott: the
+ * nodes are linked from the oldest item to the newest and every change
+ * to a link is made with a compare and set. A thread that finds the list
+ * half way through another thread's change helps finish it instead of
+ * waiting, so producers and consumers never block each other.
+ *
+ * The queue always holds a dummy node at the front. The item that will be
+ * dequeued next is in the node after it.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class ConcurrentQueue<T>
+{
+    /**
+     * Node is the link in the concurrent queue. The data and link are
+     * volatile so a node published by one thread is seen completely by
+     * every other thread.
+     */
+    private static class Node<T>
+    {
+        private volatile T data;
+        private volatile Node<T> link;
+
+        /**
+         * Data argument constructor creates a node that isn't linked yet.
+         *
+         * @param T data object to set
+         */
+        public Node(T data){
+            this.data = data;
+            this.link = null;
+        }
+    }
+
+    //Updaters let us compare and set the fields without a wrapper object
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> LINK =
+        AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class,
+            "link");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentQueue, Node>
+        FIRST = AtomicReferenceFieldUpdater.newUpdater(ConcurrentQueue.class,
+            Node.class, "first");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentQueue, Node>
+        LAST = AtomicReferenceFieldUpdater.newUpdater(ConcurrentQueue.class,
+            Node.class, "last");
+
+    //Returned by take when there was nothing to take from the queue
+    private static final Object EMPTY = new Object();
+
+    //What an empty dequeue does, read by every thread so it's volatile
+    private volatile ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    //Dummy node in front of the next item to dequeue
+    private volatile Node<T> first;
+
+    //Most recently enqueued node, or one just behind it while another
+    //thread finishes its enqueue
+    private volatile Node<T> last;
+
+    /**
+     * No argument constructor creates a new empty queue made of just the
+     * dummy node.
+     */
+    public ConcurrentQueue(){
+        Node<T> dummy = new Node<T>(null);
+        first = dummy;
+        last = dummy;
+    }
+
+    /**
+     * enqueue will add an object to the end of the queue. The new node is
+     * linked after the last node with a compare and set, and then the last
+     * reference is moved up to it.
+     *
+     * @param T item to be added to queue
+     */
+    public void enqueue(T next){
+        Node<T> node = new Node<T>(next);
+
+        while(true){
+            Node<T> end = last;
+            Node<T> after = end.link;
+
+            //Only act on a consistent view of the end of the queue
+            if(end == last){
+                if(after == null){
+                    if(LINK.compareAndSet(end, null, node)){
+                        //Linked in, try to swing last but it's fine if
+                        //another thread already did it for us
+                        LAST.compareAndSet(this, end, node);
+                        return;
+                    }
+                }else{
+                    //Another enqueue is half done so help move last up
+                    LAST.compareAndSet(this, end, after);
+                }
+            }
+        }
+    }
+
+    /**
+     * dequeue will return the item at the front of the queue. Also known
+     * as the first item enqueued.
+     *
+     * @return T at front of queue, null if it was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue(){
+        Object retVal = take();
+
+        //if nothing was taken report it
+        if(retVal == EMPTY){
+            errorPolicy.report("Dequeue Failed: ", "empty queue");
+            return null;
+        }
+
+        return (T) retVal;
+    }
+
+    /**
+     * poll will return the item at the front of queue like dequeue does, but an
+     * empty queue is never reported whatever the error policy is.
+     *
+     * @return T at front of queue, null if it was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll(){
+        Object retVal = take();
+        return retVal == EMPTY ? null : (T) retVal;
+    }
+
+    /**
+     * setErrorPolicy picks what dequeue does on an empty queue. It starts out
+     * logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * take will unlink the item at the front of the queue by moving the
+     * dummy reference up to the node holding it. That node then becomes
+     * the new dummy.
+     *
+     * @return Object at front of queue, EMPTY if there was nothing to take
+     */
+    private Object take(){
+        while(true){
+            Node<T> front = first;
+            Node<T> end = last;
+            Node<T> after = front.link;
+
+            //Only act on a consistent view of the front of the queue
+            if(front == first){
+                if(front == end){
+                    if(after == null){
+                        return EMPTY;
+                    }
+
+                    //last fell behind an enqueue so help move it up
+                    LAST.compareAndSet(this, end, after);
+                }else{
+                    //Read the data before the node can become the dummy
+                    T retVal = after.data;
+
+                    if(FIRST.compareAndSet(this, front, after)){
+                        //New dummy shouldn't keep the item reachable
+                        after.data = null;
+                        return retVal;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * isEmpty checks whether there is a node after the dummy. With other
+     * threads running the answer may be out of date as soon as it returns.
+     *
+     * @return boolean true if queue is empty
+     */
+    public boolean isEmpty(){
+        return first.link == null;
+    }
+
+    /**
+     * size counts the nodes after the dummy. Unlike the other queues the
+     * count isn't tracked, as a shared counter would put all threads back
+     * on a single contended variable, so this traverses the queue and is
+     * only an estimate while other threads are changing it.
+     *
+     * @return int number of items in the queue
+     */
+    public int size(){
+        int count = 0;
+
+        for(Node<T> position = first.link; position != null;
+            position = position.link){
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * toString will enumerate the queue and return it as a string with
+     * values separated by white space, newest first like our other lists.
+     *
+     * @return String enumeration of queue
+     */
+    @Override
+    public String toString(){
+        ArrayDeque<Object> items = new ArrayDeque<Object>();
+
+        //Walk from the oldest item, stacking each one in front
+        for(Node<T> position = first.link; position != null;
+            position = position.link){
+            items.addFirst(String.valueOf(position.data));
+        }
+
+        StringBuilder retVal = new StringBuilder();
+        for(Object item : items){
+            retVal.append(item).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * throughput runs producers and consumers against a queue until every
+     * item has gone through it and returns the number of items moved per
+     * millisecond. Each producer enqueues its own run of items while the
+     * consumers keep taking until they have all been seen.
+     *
+     * @param int producers number of enqueueing threads
+     * @param int consumers number of dequeueing threads
+     * @param int perProducer items enqueued by each producer
+     * @param Runnable producer body run by each producing thread
+     * @param Runnable consumer body run by each consuming thread
+     * @return long items per millisecond
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static long throughput(int producers, int consumers,
+        int perProducer, final Runnable producer, final Runnable consumer)
+        throws InterruptedException{
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+
+        for(int i = 0; i < threads.length; i++){
+            final Runnable body = i < producers ? producer : consumer;
+            threads[i] = new Thread(() -> {
+                try{
+                    start.await();
+                }catch(InterruptedException e){
+                    return;
+                }
+                body.run();
+            });
+            threads[i].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for(Thread thread : threads){
+            thread.join();
+        }
+        long millis = Math.max(1, (System.nanoTime() - begin) / 1000000);
+
+        return (long) producers * perProducer / millis;
+    }
+
+    /**
+     * compare runs the same workload against a Queue guarded by a single
+     * lock and against a ConcurrentQueue, printing the throughput of each.
+     *
+     * @param int producers number of enqueueing threads
+     * @param int consumers number of dequeueing threads
+     * @param int perProducer items enqueued by each producer
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static void compare(final int producers, final int consumers,
+        final int perProducer) throws InterruptedException{
+        final int total = producers * perProducer;
+        final int perConsumer = total / consumers;
+
+        //Baseline queue with every call in a synchronized block
+        final Queue<Integer> locked = new Queue<Integer>();
+        long lockedRate = throughput(producers, consumers, perProducer,
+            () -> {
+                for(int i = 0; i < perProducer; i++){
+                    synchronized(locked){
+                        locked.enqueue(i);
+                    }
+                }
+            },
+            () -> {
+                int taken = 0;
+                while(taken < perConsumer){
+                    synchronized(locked){
+                        if(!locked.isEmpty()){
+                            locked.dequeue();
+                            taken++;
+                        }
+                    }
+                }
+            });
+
+        final ConcurrentQueue<Integer> free = new ConcurrentQueue<Integer>();
+        long freeRate = throughput(producers, consumers, perProducer,
+            () -> {
+                for(int i = 0; i < perProducer; i++){
+                    free.enqueue(i);
+                }
+            },
+            () -> {
+                int taken = 0;
+                while(taken < perConsumer){
+                    if(free.take() != EMPTY){
+                        taken++;
+                    }
+                }
+            });
+
+        System.out.println(producers + " producers / " + consumers
+            + " consumers: synchronized Queue " + lockedRate
+            + " items/ms, ConcurrentQueue " + freeRate + " items/ms");
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        ConcurrentQueue<Integer> empty = new ConcurrentQueue<Integer>();
+        ConcurrentQueue<Integer> one = new ConcurrentQueue<Integer>();
+        ConcurrentQueue<Integer> multiple = new ConcurrentQueue<Integer>();
+
+        one.enqueue(1);
+
+        multiple.enqueue(10);
+        multiple.enqueue(20);
+        multiple.enqueue(30);
+
+        System.out.println("Empty after en: " + empty.toString());
+        System.out.println("One after en: " + one.toString());
+        System.out.println("Multiple after en: " + multiple.toString());
+
+        assert(empty.dequeue() == null): "empty dequeue should be null";
+        assert((int) one.dequeue() == 1): "one should dequeue 1";
+        assert((int) multiple.dequeue() == 10): "first in should be 10";
+
+        System.out.println("Multiple after dq: " + multiple.toString());
+        assert(multiple.size() == 2): "multiple size should be 2";
+        assert((int) multiple.dequeue() == 20): "next should be 20";
+        assert((int) multiple.dequeue() == 30): "next should be 30";
+        assert(multiple.isEmpty()): "multiple should be empty";
+        assert(one.isEmpty()): "one should be empty";
+
+        multiple.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(multiple.dequeue() == null): "silent dequeue should be null";
+        multiple.enqueue(40);
+        assert((int) multiple.poll() == 40): "poll should take 40";
+        assert(multiple.poll() == null): "poll on empty should be null";
+
+        //Every item from every producer should come out exactly once
+        final ConcurrentQueue<Integer> shared =
+            new ConcurrentQueue<Integer>();
+        final int producers = 4;
+        final int perProducer = 50000;
+        final boolean[] seen = new boolean[producers * perProducer];
+        Thread[] threads = new Thread[producers];
+
+        for(int p = 0; p < producers; p++){
+            final int offset = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for(int i = 0; i < perProducer; i++){
+                    shared.enqueue(offset + i);
+                }
+            });
+            threads[p].start();
+        }
+
+        int taken = 0;
+        while(taken < seen.length){
+            Object next = shared.take();
+            if(next != EMPTY){
+                assert(!seen[(int) next]): "item dequeued twice";
+                seen[(int) next] = true;
+                taken++;
+            }
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        assert(shared.isEmpty()): "shared queue should be drained";
+
+        //Throughput comparison against a lock around Queue
+        System.out.println("\n Throughput Tests \n");
+        int cores = Runtime.getRuntime().availableProcessors();
+        compare(1, 1, 200000);
+        compare(2, 2, 200000);
+        compare(Math.max(2, cores / 2), Math.max(2, cores / 2), 200000);
+    }
+}
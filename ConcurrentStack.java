@@ -0,0 +1,415 @@
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * ConcurrentStack is a thread safe version of our stack that doesn't use
+ * a lock. It's a Treiber stack: push and pop change the top reference
+ * with a compare and set and retry if another thread got there first.
+ *
+ * When many threads hit the top at once most of those compare and sets
+ * fail. Instead of retrying straight away a thread that loses goes to the
+ * elimination array. A push waits there for a moment with its node, and a
+ * pop that finds one takes the node directly. The pair cancels out without
+ * ever touching the top, which is what keeps the stack scaling as more
+ * threads are added.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class ConcurrentStack<T>
+{
+    /**
+     * Node is the link in the concurrent stack. The link is always set
+     * before the node is published by the compare and set on top, so it
+     * doesn't need to be volatile.
+     */
+    private static class Node<T>
+    {
+        private final T data;
+        private Node<T> link;
+
+        /**
+         * Data argument constructor creates a node that isn't linked yet.
+         *
+         * @param T data object to set
+         */
+        public Node(T data){
+            this.data = data;
+            this.link = null;
+        }
+    }
+
+    //Updater lets us compare and set the top without a wrapper object
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentStack, Node>
+        TOP = AtomicReferenceFieldUpdater.newUpdater(ConcurrentStack.class,
+            Node.class, "top");
+
+    //Returned by take when there was nothing to take from the stack
+    private static final Object EMPTY = new Object();
+
+    //What an empty pop does, read by every thread so it's volatile
+    private volatile ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    //How many times a push checks its elimination slot before giving up
+    private static final int ELIMINATION_SPINS = 64;
+
+    //Node at the top of the stack
+    private volatile Node<T> top;
+
+    //Slots where a losing push offers its node to a losing pop
+    private final AtomicReferenceArray<Node<T>> elimination;
+
+    /**
+     * No argument constructor creates a new empty stack with an elimination
+     * array sized to the number of processors.
+     */
+    public ConcurrentStack(){
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Slots argument constructor creates a new empty stack with the given
+     * number of elimination slots. More slots suit more threads.
+     *
+     * @param int slots size of the elimination array
+     */
+    public ConcurrentStack(int slots){
+        top = null;
+        elimination = new AtomicReferenceArray<Node<T>>(Math.max(1, slots));
+    }
+
+    /**
+     * push adds a new data item to the top of the stack. If the compare and
+     * set on top loses to another thread the node is offered on the
+     * elimination array before trying the top again.
+     *
+     * @param T to be added
+     * @return Nothing
+     */
+    public void push(T next){
+        Node<T> node = new Node<T>(next);
+
+        while(true){
+            Node<T> current = top;
+            node.link = current;
+
+            if(TOP.compareAndSet(this, current, node)){
+                return;
+            }
+
+            //Lost the race on top, see if a pop will take the node instead
+            if(eliminate(node)){
+                return;
+            }
+        }
+    }
+
+    /**
+     * eliminate offers a pushed node in a random free slot and waits a
+     * short while for a pop to take it. If no pop does, the node is
+     * withdrawn. Withdrawing with a compare and set means exactly one of
+     * the push and the pop can claim the node.
+     *
+     * @param Node node being pushed
+     * @return boolean true if a pop took the node
+     */
+    private boolean eliminate(Node<T> node){
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+
+        if(!elimination.compareAndSet(slot, null, node)){
+            //Slot is busy so go back to the top
+            return false;
+        }
+
+        for(int i = 0; i < ELIMINATION_SPINS; i++){
+            if(elimination.get(slot) != node){
+                //A pop swapped our node out of the slot
+                return true;
+            }
+        }
+
+        //Nobody came, take the node back unless a pop just did
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Pop will return the item at the top of the stack.
+     *
+     * @return T from the top of the stack, null if it was empty
+     * @exception reported by the error policy when the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop(){
+        Object retVal = take();
+
+        //if nothing was taken report it
+        if(retVal == EMPTY){
+            errorPolicy.report("Failed to pop: ", "Empty stack");
+            return null;
+        }
+
+        return (T) retVal;
+    }
+
+    /**
+     * tryPop will return the item at the top of the stack like pop does,
+     * but an empty stack is never reported whatever the error policy is.
+     *
+     * @return T at top of the stack, null if it was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T tryPop(){
+        Object retVal = take();
+        return retVal == EMPTY ? null : (T) retVal;
+    }
+
+    /**
+     * setErrorPolicy picks what pop does on an empty stack. It starts out
+     * logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * take unlinks the top node with a compare and set. When that loses to
+     * another thread it looks for a waiting push on the elimination array
+     * before trying the top again.
+     *
+     * @return Object from the top of the stack, EMPTY if it was empty
+     */
+    private Object take(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while(true){
+            Node<T> current = top;
+
+            if(current == null){
+                return EMPTY;
+            }
+
+            if(TOP.compareAndSet(this, current, current.link)){
+                return current.data;
+            }
+
+            //Lost the race on top, try to meet a push instead
+            int slot = random.nextInt(elimination.length());
+            Node<T> offered = elimination.get(slot);
+
+            if(offered != null
+                && elimination.compareAndSet(slot, offered, null)){
+                return offered.data;
+            }
+        }
+    }
+
+    /**
+     * isEmpty checks whether there is a top node. With other threads
+     * running the answer may be out of date as soon as it returns.
+     *
+     * @return boolean true if stack is empty
+     */
+    public boolean isEmpty(){
+        return top == null;
+    }
+
+    /**
+     * size counts the nodes from the top down. The count isn't tracked as
+     * a shared counter would put all threads back on a single contended
+     * variable, so this traverses the stack and is only an estimate while
+     * other threads are changing it.
+     *
+     * @return int number of items in the stack
+     */
+    public int size(){
+        int count = 0;
+
+        for(Node<T> position = top; position != null;
+            position = position.link){
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * toString will enumerate the stack from the top down and return it as
+     * a string with values separated by white space.
+     *
+     * @return String enumeration of stack
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(Node<T> position = top; position != null;
+            position = position.link){
+            retVal.append(position.data).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * throughput starts the given number of threads, each running the
+     * same body, and returns the total push and pop pairs completed per
+     * millisecond.
+     *
+     * @param int threads number of threads to run
+     * @param int pairs push and pop pairs done by each thread
+     * @param Runnable body run by each thread
+     * @return long pairs per millisecond
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static long throughput(int threads, int pairs,
+        final Runnable body) throws InterruptedException{
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for(int i = 0; i < workers.length; i++){
+            workers[i] = new Thread(() -> {
+                try{
+                    start.await();
+                }catch(InterruptedException e){
+                    return;
+                }
+                body.run();
+            });
+            workers[i].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for(Thread worker : workers){
+            worker.join();
+        }
+        long millis = Math.max(1, (System.nanoTime() - begin) / 1000000);
+
+        return (long) threads * pairs / millis;
+    }
+
+    /**
+     * compare has every thread push and then pop against a Stack guarded
+     * by a single lock and against a ConcurrentStack, printing the
+     * throughput of each.
+     *
+     * @param int threads number of threads hitting the stack
+     * @param int pairs push and pop pairs done by each thread
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static void compare(int threads, final int pairs)
+        throws InterruptedException{
+        final Stack<Integer> locked = new Stack<Integer>();
+        long lockedRate = throughput(threads, pairs, () -> {
+            for(int i = 0; i < pairs; i++){
+                synchronized(locked){
+                    locked.push(i);
+                }
+                synchronized(locked){
+                    locked.pop();
+                }
+            }
+        });
+
+        final ConcurrentStack<Integer> free = new ConcurrentStack<Integer>();
+        long freeRate = throughput(threads, pairs, () -> {
+            for(int i = 0; i < pairs; i++){
+                free.push(i);
+                free.take();
+            }
+        });
+
+        System.out.println(threads + " threads: synchronized Stack "
+            + lockedRate + " pairs/ms, ConcurrentStack " + freeRate
+            + " pairs/ms");
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        ConcurrentStack<Integer> empty = new ConcurrentStack<Integer>();
+        ConcurrentStack<Integer> one = new ConcurrentStack<Integer>();
+        ConcurrentStack<Integer> multiple = new ConcurrentStack<Integer>();
+
+        one.push(1);
+
+        multiple.push(10);
+        multiple.push(20);
+        multiple.push(30);
+
+        System.out.println("Empty after push: " + empty.toString());
+        System.out.println("One after push: " + one.toString());
+        System.out.println("Multiple after push: " + multiple.toString());
+
+        assert(empty.pop() == null): "empty pop should be null";
+        assert((int) one.pop() == 1): "one should pop 1";
+        assert((int) multiple.pop() == 30): "last in should be 30";
+
+        System.out.println("Multiple after pop: " + multiple.toString());
+        assert(multiple.size() == 2): "multiple size should be 2";
+        assert((int) multiple.pop() == 20): "next should be 20";
+        assert((int) multiple.pop() == 10): "next should be 10";
+        assert(multiple.isEmpty()): "multiple should be empty";
+
+        multiple.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(multiple.pop() == null): "silent pop should be null";
+        multiple.push(40);
+        assert((int) multiple.tryPop() == 40): "tryPop should take 40";
+        assert(multiple.tryPop() == null): "tryPop on empty should be null";
+
+        //Items pushed from many threads should all pop exactly once
+        final ConcurrentStack<Integer> shared =
+            new ConcurrentStack<Integer>(4);
+        final int threads = 8;
+        final int perThread = 20000;
+        final boolean[] seen = new boolean[threads * perThread];
+        final int[] popped = new int[threads];
+        Thread[] workers = new Thread[threads];
+
+        for(int t = 0; t < threads; t++){
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                //Push and pop together so elimination gets a chance
+                for(int i = 0; i < perThread; i++){
+                    shared.push(id * perThread + i);
+                    Object next = shared.take();
+                    if(next != EMPTY){
+                        synchronized(seen){
+                            assert(!seen[(int) next]): "item popped twice";
+                            seen[(int) next] = true;
+                        }
+                        popped[id]++;
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for(Thread worker : workers){
+            worker.join();
+        }
+
+        int total = 0;
+        for(int count : popped){
+            total += count;
+        }
+        for(Object next = shared.take(); next != EMPTY;
+            next = shared.take()){
+            assert(!seen[(int) next]): "item popped twice";
+            seen[(int) next] = true;
+            total++;
+        }
+        assert(total == seen.length): "every pushed item should pop once";
+
+        //Throughput comparison against a lock around Stack
+        System.out.println("\n Throughput Tests \n");
+        int cores = Runtime.getRuntime().availableProcessors();
+        for(int count = 1; count <= Math.max(4, cores * 2); count *= 2){
+            compare(count, 200000);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ElementCodec turns the items of a list into bytes and back. List uses
+ * it to write itself to a channel and to read a list back in, one item at
+ * a time, so a large list is never held as one big string or array.
+ *
+ * Codecs for the common item types are provided. None of them accept
+ * null items. Counts read back are checked before anything is made from
+ * them, so a corrupt stream gives an IOException rather than a huge or
+ * negative array.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public interface ElementCodec<T>
+{
+    /**
+     * write encodes one item.
+     *
+     * @param T value item to encode
+     * @param DataOutput out where the encoded bytes go
+     * @throws IOException if the bytes can't be written
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * read decodes one item written by write.
+     *
+     * @param DataInput in where the encoded bytes come from
+     * @return T item that was decoded
+     * @throws IOException if the bytes can't be read
+     */
+    T read(DataInput in) throws IOException;
+
+    //Most bytes STRING will read back for one string, the size of a
+    //default PersistentQueue segment
+    int MAX_STRING_BYTES = 1 << 26;
+
+    //Integers as four bytes each
+    ElementCodec<Integer> INTEGER = new ElementCodec<Integer>(){
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException{
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException{
+            return in.readInt();
+        }
+    };
+
+    //Longs as eight bytes each
+    ElementCodec<Long> LONG = new ElementCodec<Long>(){
+        @Override
+        public void write(Long value, DataOutput out) throws IOException{
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException{
+            return in.readLong();
+        }
+    };
+
+    //Strings as a byte count followed by their UTF-8 bytes
+    ElementCodec<String> STRING = new ElementCodec<String>(){
+        @Override
+        public void write(String value, DataOutput out) throws IOException{
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if(bytes.length > MAX_STRING_BYTES){
+                throw new IOException("String too long to write: "
+                    + bytes.length + " bytes");
+            }
+
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException{
+            int length = in.readInt();
+            if(length < 0 || length > MAX_STRING_BYTES){
+                throw new IOException("Bad string length: " + length);
+            }
+
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+}
@@ -0,0 +1,45 @@
+/**
+ * ErrorPolicy decides what a list does when it's asked to do something it
+ * can't, such as remove from an empty list or insert past the end. Each
+ * list has its own policy and starts out logging, which is what the lists
+ * have always done.
+ *
+ * Code that expects misses, like a consumer polling an empty queue, can
+ * pick SILENT and check the return value, or use the poll, tryPop and
+ * tryRemove methods that never report anything. When THROW is picked the
+ * exception is made without a stack trace, since the failure is reported
+ * where it happens and walking the stack would cost more than the
+ * operation itself.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public enum ErrorPolicy
+{
+    //Report nothing, the caller checks what was returned
+    SILENT,
+
+    //Print the failure to System.err and carry on
+    LOG,
+
+    //Throw a LinkedListException without a stack trace
+    THROW;
+
+    /**
+     * report does whatever this policy says with a failed operation. No
+     * exception or message is built unless the policy needs it.
+     *
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     * @throws LinkedListException when the policy is THROW
+     */
+    public void report(String action, String reason){
+        if(this == THROW){
+            throw new LinkedListException(reason, false);
+        }
+        else if(this == LOG){
+            System.err.println(action + reason);
+        }
+    }
+}
@@ -0,0 +1,566 @@
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IndexedSkipList is a version of our list that finds items by index in
+ * logarithmic time. It has the same append, insert, delete, remove, get
+ * and indexOf methods as List and the same indexes: index zero is the
+ * first item appended.
+ *
+ * The items sit in a linked list like any other, but some nodes also
+ * belong to higher levels that skip over runs of nodes, like express
+ * lanes. Each link in a lane records its span, the number of items it
+ * skips. Adding up spans while dropping down from the top lane finds any
+ * index in about log n steps, and keeping the spans right when a node is
+ * linked or unlinked costs about the same.
+ *
+ * A node joins each level above the first with a one in four chance, so
+ * the extra links average a third of a link per node.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class IndexedSkipList<T> implements Sequence<T>
+{
+    /**
+     * Node holds an item and its links in every level it belongs to. The
+     * back reference is only kept on the bottom level so the list can be
+     * walked down from the last index.
+     */
+    private class Node
+    {
+        private T data;
+        private Node[] next;
+        private int[] span;
+        private Node back;
+
+        /**
+         * Full argument constructor creates a node in the given number of
+         * levels.
+         *
+         * @param T data object to set
+         * @param int levels number of levels the node belongs to
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Node(T data, int levels){
+            this.data = data;
+            this.next = new IndexedSkipList.Node[levels];
+            this.span = new int[levels];
+            this.back = null;
+        }
+    }
+
+    //Most levels a node can belong to, plenty for any int sized list
+    private static final int MAX_LEVEL = 32;
+
+    //Starts every level, it sits before index zero and holds no item
+    private final Node header;
+
+    //Node at the last index, where a walk down the list starts
+    private Node last = null;
+
+    //Number of levels currently in use
+    private int level = 1;
+
+    //Number of items in the list
+    private int count = 0;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    //Picks the levels for new nodes
+    private final Random random;
+
+    //Scratch space for append and shiftList: the node before the change
+    //on each level and its index plus one, kept so they aren't allocated
+    //on every call
+    private final Node[] update;
+    private final int[] rank;
+
+    /**
+     * No argument constructor creates an empty list.
+     */
+    public IndexedSkipList(){
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Seed argument constructor creates an empty list whose node levels
+     * come from a random number generator with the given seed, so the
+     * shape of the list can be repeated.
+     *
+     * @param long seed for picking node levels
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public IndexedSkipList(long seed){
+        header = new Node(null, MAX_LEVEL);
+        random = new Random(seed);
+        update = new IndexedSkipList.Node[MAX_LEVEL];
+        rank = new int[MAX_LEVEL];
+    }
+
+    /**
+     * randomLevel picks how many levels a new node belongs to. Each level
+     * past the first has a one in four chance.
+     *
+     * @return int number of levels for a new node
+     */
+    private int randomLevel(){
+        int levels = 1;
+        while(levels < MAX_LEVEL && random.nextInt(4) == 0){
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Append will add an item to the end of the list. The new node is
+     * linked in after the last node on each of its levels and the spans
+     * over it on the levels above are stretched by one.
+     *
+     * @param T next object to be added
+     * @return Nothing
+     */
+    @Override
+    public void append(T next){
+        Node position = header;
+
+        //Find the last node on each level, and its index plus one
+        for(int i = level - 1; i >= 0; i--){
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while(position.next[i] != null){
+                rank[i] += position.span[i];
+                position = position.next[i];
+            }
+            update[i] = position;
+        }
+
+        int levels = randomLevel();
+        if(levels > level){
+            //New levels start at the header, spanning the whole list
+            for(int i = level; i < levels; i++){
+                rank[i] = 0;
+                update[i] = header;
+                header.span[i] = count;
+            }
+            level = levels;
+        }
+
+        Node node = new Node(next, levels);
+        for(int i = 0; i < levels; i++){
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+
+            //Split the old span around the new node
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+
+        //Levels the node doesn't reach now skip one more item
+        for(int i = levels; i < level; i++){
+            update[i].span[i]++;
+        }
+
+        node.back = update[0] == header ? null : update[0];
+        last = node;
+        count++;
+    }
+
+    /**
+     * Size will return the number of items in the list.
+     *
+     * @return int size is the number of objects in the list
+     */
+    @Override
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the count.
+     *
+     * @return boolean true if list is empty
+     */
+    @Override
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * insert will put an object at a specified index position as long as
+     * it's valid. If the list is empty or the index is the size the object
+     * is appended, otherwise the object at the index is changed.
+     *
+     * @param T next object to be added at index
+     * @param int index where the object should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    @Override
+    public void insert(T next, int index){
+        //check index
+        if(!insideRange(index, "Failed to insert object: ")){
+            return;
+        }
+
+        if(count == 0 || index == count){
+            append(next);
+        }
+        else{
+            nodeAt(index).data = next;
+        }
+    }
+
+    /**
+     * Delete will delete the object at a given index without returning it.
+     *
+     * @param int index of object to be deleted
+     * @return Nothing
+     */
+    @Override
+    public void delete(int index){
+        //check index range
+        if(!insideRange(index, "Failed to delete node: ")){
+            return;
+        }
+
+        if(count == 0){
+            fail("Failed to delete node: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            fail("Failed to delete node: ", "Outside of list range");
+        }
+        else{
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     *
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will take the object at a specified index out of the list
+     * and return it.
+     *
+     * @param int index of object to remove
+     * @return T object at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @Override
+    public T remove(int index){
+        //check index range
+        if(!insideRange(index, "Failed to remove node: ")){
+            return null;
+        }
+
+        if(count == 0){
+            fail("Failed to remove node: ", "Can't remove from empty " +
+                " list");
+            return null;
+        }
+        else if(index == count){
+            fail("Failed to remove node: ", "Outside of list range");
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * get will return the object at a specified index without changing
+     * the list.
+     *
+     * @param int index of object to read
+     * @return T object at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @Override
+    public T get(int index){
+        //check index range
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == count){
+            fail("Failed to get node: ", "Outside of list range");
+            return null;
+        }
+
+        return nodeAt(index).data;
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    @Override
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * getErrorPolicy returns what the list does when an operation can't
+     * be done.
+     *
+     * @return ErrorPolicy policy in use
+     */
+    @Override
+    public ErrorPolicy getErrorPolicy(){
+        return errorPolicy;
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to. Nothing is built unless the policy needs it.
+     *
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * nodeAt will find the node at the given index by taking the longest
+     * links that don't pass it, dropping a level each time the next link
+     * would overshoot.
+     *
+     * @param int index of node to find
+     * @return Node at the specified index
+     */
+    private Node nodeAt(int index){
+        //The header counts as zero so the node at index i is i + 1 along
+        int target = index + 1;
+        int traversed = 0;
+        Node position = header;
+
+        for(int i = level - 1; i >= 0; i--){
+            while(position.next[i] != null
+                && traversed + position.span[i] <= target){
+                traversed += position.span[i];
+                position = position.next[i];
+            }
+
+            if(traversed == target){
+                return position;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * shiftList will unlink the node at a specified index from every
+     * level it belongs to. Links that jumped over it on higher levels
+     * have their span shortened by one.
+     *
+     * @param int index of node to shift from
+     * @return T object that was removed
+     */
+    private T shiftList(int index){
+        int target = index + 1;
+        int traversed = 0;
+        Node position = header;
+
+        //Find the last node before the index on each level
+        for(int i = level - 1; i >= 0; i--){
+            while(position.next[i] != null
+                && traversed + position.span[i] < target){
+                traversed += position.span[i];
+                position = position.next[i];
+            }
+            update[i] = position;
+        }
+
+        Node removed = update[0].next[0];
+        for(int i = 0; i < level; i++){
+            if(update[i].next[i] == removed){
+                //Join over the removed node, taking on its span
+                update[i].span[i] += removed.span[i] - 1;
+                update[i].next[i] = removed.next[i];
+            }else{
+                update[i].span[i]--;
+            }
+        }
+
+        //Fix the bottom level's back references
+        if(removed.next[0] == null){
+            last = removed.back;
+        }else{
+            removed.next[0].back = removed.back;
+        }
+
+        //Drop levels that no longer have any nodes
+        while(level > 1 && header.next[level - 1] == null){
+            header.span[level - 1] = 0;
+            level--;
+        }
+
+        count--;
+        return removed.data;
+    }
+
+    /**
+     * toString will enumerate the list from the last index down and return
+     * it as a string with values separated by white space, the same order
+     * List uses.
+     *
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(Node position = last; position != null;
+            position = position.back){
+            retVal.append(position.data).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * indexOf will find the highest index holding an object equal to the
+     * target. Finding an item by value still means walking the bottom
+     * level, down from the last index.
+     *
+     * @param Object target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    @Override
+    public int indexOf(Object target){
+        Node position = last;
+
+        for(int i = count - 1; i >= 0; i--){
+            if(Objects.equals(position.data, target)){
+                return i;
+            }
+            position = position.back;
+        }
+
+        return -1;
+    }
+
+    public static void main(String[] args){
+        IndexedSkipList<Integer> a = new IndexedSkipList<Integer>(1);
+
+        //Size, Append, Insert Tests
+        System.out.println("\n Size/Removal/Insert Tests \n");
+        assert(a.size() == 0): "Size should be zero";
+        assert(a.isEmpty()): "List should be empty";
+
+        for(int j = 0; j < 10; j++){
+            a.append(j);
+        }
+        a.insert(50, 5);
+        a.insert(10, 10);
+        a.insert(1, -1);
+        assert(a.size() == 11): "Size should be 11";
+        assert(a.get(5) == 50 && a.get(10) == 10): "get should read index";
+        assert(a.get(11) == null): "get OOB should be null";
+        System.out.println(a.toString());
+
+        //Removal Tests
+        System.out.println("\n Removal Tests \n");
+        assert(a.remove(5) == 50): "Index 5 should equal 50";
+        assert(a.remove(0) == 0): "Index 0 should equal 0";
+        assert(a.remove(8) == 10): "Index 8 should equal 10";
+        assert(a.remove(8) == null): "Removal should return null";
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.remove(-1) == null): "SILENT should carry on";
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            a.delete(8);
+            assert(false): "THROW policy should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Outside of list range")):
+                "message should say why";
+        }
+        a.setErrorPolicy(ErrorPolicy.LOG);
+        a.delete(3);
+        assert(a.size() == 7): "Size should be 7";
+        assert(a.indexOf(9) == 6 && a.indexOf(4) == -1): "indexOf";
+        System.out.println(a.toString());
+
+        //Random operations should match List exactly
+        System.out.println("\n Random Tests \n");
+        IndexedSkipList<Integer> skip = new IndexedSkipList<Integer>(7);
+        List<Integer> plain = new List<Integer>();
+        Random random = new Random(7);
+        for(int j = 0; j < 20000; j++){
+            int choice = random.nextInt(4);
+            if(choice < 2 || plain.isEmpty()){
+                skip.append(j);
+                plain.append(j);
+            }else{
+                int index = random.nextInt(plain.size());
+                if(choice == 2){
+                    assert(skip.remove(index).equals(plain.remove(index))):
+                        "remove should match List";
+                }else{
+                    skip.insert(-j, index);
+                    plain.insert(-j, index);
+                }
+            }
+        }
+        assert(skip.size() == plain.size()): "sizes should match";
+        for(int j = 0; j < plain.size(); j++){
+            assert(skip.get(j).equals(plain.get(j))): "get should match";
+        }
+        assert(skip.toString().equals(plain.toString())): "text matches";
+
+        //Timing Tests
+        System.out.println("\n Timing Tests \n");
+        IndexedSkipList<Integer> bigSkip = new IndexedSkipList<Integer>();
+        List<Integer> bigList = new List<Integer>();
+        for(int j = 0; j < 1000000; j++){
+            bigSkip.append(j);
+            bigList.append(j);
+        }
+
+        long begin = System.nanoTime();
+        for(int j = 0; j < 200; j++){
+            bigList.get(random.nextInt(bigList.size()));
+        }
+        long listTime = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        for(int j = 0; j < 200; j++){
+            bigSkip.get(random.nextInt(bigSkip.size()));
+        }
+        long skipTime = System.nanoTime() - begin;
+
+        System.out.println("200 random gets on 1000000: List "
+            + listTime / 1000 + "us, IndexedSkipList " + skipTime / 1000
+            + "us");
+    }
+}
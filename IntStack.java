@@ -0,0 +1,107 @@
+/**
+ * IntStack is the stack version of IntList. The last value in is the first value
+ * out, and values are stored without being boxed into objects.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class IntStack extends IntList
+{
+    /**
+     * No argument constructor creates a new empty stack.
+     */
+    public IntStack(){
+        super();
+    }
+
+    /**
+     * Capacity argument constructor creates a new empty stack with room
+     * for the given number of values before it needs to grow.
+     * 
+     * @param int capacity number of values to start with
+     */
+    public IntStack(int capacity){
+        super(capacity);
+    }
+
+    /**
+     * push adds a new value to the top of the stack.
+     * 
+     * @param int to be added
+     * @return Nothing
+     */
+    public void push(int next){
+        append(next);
+    }
+
+    /**
+     * Pop will return the value at the top of the stack. Zero is returned
+     * for an empty stack.
+     * 
+     * @return int from the top of the stack, zero if the stack is empty
+     * @exception reported by the error policy when stack is empty
+     */
+    public int pop(){
+        //If empty report it
+        if(this.isEmpty()){
+            fail("Failed to pop: ", "Empty stack");
+            return 0;
+        }
+
+        return super.remove(this.size() - 1);
+    }
+
+    /**
+     * Override the remove method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param int of index
+     * @return int
+     */
+    @Override
+    public int remove(int index){
+        return pop();
+    }
+
+    /**
+     * Override the insert method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param int to be added
+     * @param int of index
+     */
+    @Override
+    public void insert(int a, int n){
+        push(a);
+    }
+
+    /**
+     * Override delete method because it would compromise the stack data
+     * structure.
+     * 
+     * @int index
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void delete(int index){
+        fail("", "Delete not usable in stack");
+    }
+
+    public static void main(String[] args){
+        IntStack a = new IntStack();
+
+        a.push(1);
+        a.push(2);
+        a.insert(3, 7);
+        System.out.println("a after push: " + a.toString());
+
+        assert(a.size() == 3): "size should be 3";
+        assert(a.pop() == 3): "pop should return 3";
+        assert(a.indexOf(2) == 1): "index of 2 should be 1";
+        assert(a.remove(5) == 2): "pop should return 2";
+        assert(a.pop() == 1): "pop should return 1";
+        assert(a.pop() == 0): "empty pop should be zero";
+
+        a.delete(1);
+    }
+}
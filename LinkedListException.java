@@ -2,11 +2,16 @@
  * This is a custom exception class that will be used to handle exceptions
  * in my implementation of linked list.
  * 
+ * It is unchecked so a list set to throw on errors can do so from any of
+ * its methods.
+ * 
  * @author Connor Teal
  * @version February 15, 2017
  */
-public class LinkedListException extends Exception
+public class LinkedListException extends RuntimeException
 {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Empty constructor will throw default message
      */
@@ -20,4 +25,15 @@ public class LinkedListException extends Exception
     public LinkedListException(String message){
         super(message);
     }
+
+    /**
+     * Message and stack trace constructor creates a LLE that can skip
+     * filling in its stack trace, which is the costly part of making one.
+     * 
+     * @param String message custom message
+     * @param boolean stackTrace false to leave the stack trace empty
+     */
+    public LinkedListException(String message, boolean stackTrace){
+        super(message, null, true, stackTrace);
+    }
 }
@@ -1,3 +1,39 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 /**
  * The list class is our own implementation of a linked list. A link list 
@@ -8,11 +44,17 @@
  * scattered without and they use pointers to link to the previous item in
  * the list. The last item will point to null.
  * 
+ * A list can be walked with a for each loop or turned into a stream. Both
+ * go through the items from index zero up, and both fail fast if the list
+ * is changed by anything other than the walk itself. subList, filter,
+ * map and reversed give ListViews that walk the list the same way without
+ * copying it.
+ * 
  * 
  * @author Connor Teal
  * @version February 14, 2017
  */
-public class List
+public class List<T> implements Iterable<T>, Sequence<T>
 {
     /**
      * This inner class node will serve to act as a node in our linked list.
@@ -22,313 +64,1983 @@ public class List
      * 
      * This also allows us to use the instance variables without needing
      * getters and mutators.
+     * 
+     * Each node links to the previous item in the list and also keeps a
+     * back reference to the item appended after it, so the list can be
+     * walked from either end.
      */
     private class Node
     {
-        private Object data;
+        private T data;
         private Node link;
+        private Node back;
 
         /**
          * No argument constructor sets instance variables to default of 
-         * data and link null.
+         * data, link and back null.
          */
         public Node(){
             link = null;
+            back = null;
             data = null;
         }
 
         /**
-         * Full argument constructor sets Node instance variables to given 
-         * values
+         * Full argument constructor sets Node instance variables to given 
+         * values
+         * 
+         * @param T data object to set
+         * @param Node link to set reference
+         */
+        public Node(T data, Node link){
+            this.data = data;
+            this.link = link;
+            this.back = null;
+        }
+    }
+
+    //First four bytes of a list written by writeTo, "LLST"
+    private static final int MAGIC = 0x4C4C5354;
+
+    //Encoded bytes gathered before writeTo sends a block to the channel
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    //Largest block readFrom will make room for, since a block can run one
+    //item past BLOCK_SIZE
+    private static final int MAX_BLOCK = BLOCK_SIZE << 4;
+
+    //Runs of nodes at most this long are sorted on the calling thread,
+    //longer ones are split in half and sorted on the fork join pool
+    private static final int SORT_THRESHOLD = 1 << 13;
+
+    //Each split of a spliterator copies this many more items than the
+    //last, up to the most one split copies, like java.util.LinkedList
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    //Head node that indicates start of list
+    private Node head = null;
+
+    //Tail node is the first item appended and sits at index zero
+    private Node tail = null;
+
+    //Number of nodes linked into the list, kept current by every mutator
+    private int count = 0;
+
+    //Bumped whenever a node is linked or unlinked so iterators can tell
+    //the list changed underneath them
+    private int modCount = 0;
+
+    //Finds items by value without a scan, null unless it's turned on
+    private ValueIndex valueIndex = null;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    //Unlinked nodes kept for reuse, chained through their links
+    private Node pool = null;
+
+    //Number of nodes in the pool and the most it may hold, zero unless
+    //node recycling is turned on
+    private int pooled = 0;
+    private int poolLimit = 0;
+
+    //Counts what the list does, null unless metrics are turned on
+    private ListMetrics metrics = null;
+
+    /**
+     * No argument constructor sets head to null to indicate start of list.
+     */
+    public List(){
+        head = null;
+        tail = null;
+        count = 0;
+    }
+
+    /**
+     * Append will add a node to the end of the list by creating a new 
+     * node with the new object as data. The new node points to the previous
+     * head.
+     * 
+     * @param T next object to be added
+     * @return Nothing
+     */
+    @Override
+    public void append(T next){
+        long start = ListMetrics.start(metrics);
+
+        //Sets head node to a new node with passed object that points to
+        //previous head
+        Node node = newNode(next,head);
+
+        if(head == null){
+            //first node is both ends of the list
+            tail = node;
+        }else{
+            head.back = node;
+        }
+
+        this.head = node;
+        count++;
+        modCount++;
+
+        if(valueIndex != null){
+            valueIndex.appended(next);
+        }
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.APPEND, start, 0, count);
+        }
+    }
+
+    /**
+     * appendAll will add every item to the end of the list in the order
+     * they are given. The new nodes are linked to each other first and the
+     * finished chain is then joined to the head in one step.
+     * 
+     * @param Iterable items objects to be added
+     * @return Nothing
+     */
+    public void appendAll(Iterable<? extends T> items){
+        long start = ListMetrics.start(metrics);
+        Node first = null;
+        Node last = null;
+        int added = 0;
+
+        //Build the chain off to the side, each node pointing to the last
+        for(T next : items){
+            Node node = newNode(next, last);
+
+            if(last == null){
+                first = node;
+            }else{
+                last.back = node;
+            }
+
+            last = node;
+            added++;
+        }
+
+        join(first, last, added, start);
+    }
+
+    /**
+     * join links a chain of new nodes, built off to the side with each
+     * node pointing to the one before it, on in front of the head.
+     * 
+     * @param Node first lowest node of the chain, null if it's empty
+     * @param Node last highest node of the chain
+     * @param int added number of nodes in the chain
+     * @param long start when the metrics started timing the append
+     * @return Nothing
+     */
+    private void join(Node first, Node last, int added, long start){
+        if(added == 0){
+            return;
+        }
+
+        //Join the whole chain on in front of the old head
+        first.link = head;
+        if(head == null){
+            tail = first;
+        }else{
+            head.back = first;
+        }
+
+        head = last;
+        count += added;
+        modCount++;
+
+        if(valueIndex != null){
+            for(Node position = first; position != null;
+                position = position.back){
+                valueIndex.appended(position.data);
+            }
+        }
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.APPEND, start, 0, count);
+        }
+    }
+
+    /**
+     * Size will return the number of items in the list. The count is
+     * updated by every method that links or unlinks a node so we no longer
+     * need to traverse the list to find it.
+     * 
+     * @return int size is the number of objects in the list
+     */
+    @Override
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the current
+     * count. If it's equal to zero then we know that the list is empty.
+     * 
+     * @return boolean true if list is empty
+     */
+    @Override
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * insert will insert an object into a specified index position
+     * as long as it's valid. There are two unique cases to look for:
+     * one when the list is empty or the index is the size, in which case
+     * the object is appended, and the other when the node at the index
+     * already exists and its data is changed.
+     * 
+     * @param T next object to be added at index
+     * @param int index where the node should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    @Override
+    public void insert(T next, int index){
+        long start = ListMetrics.start(metrics);
+
+        //check index
+        if(!this.insideRange(index, "Failed to insert object: ")){
+            return;
+        }
+
+        //if index check for conditions
+        if(count == 0 || index == count){
+            //empty list or index chosen to be new head so append
+            append(next);
+        }
+        else{
+            //didn't append so find node in one traversal and change it
+            Node position = nodeAt(index);
+
+            if(valueIndex != null){
+                valueIndex.replaced(index, position.data, next);
+            }
+            position.data = next;
+
+            if(metrics != null){
+                metrics.record(ListMetrics.Operation.INSERT, start,
+                    distance(index), count);
+            }
+        }
+    }
+
+    /**
+     * Delete will delete the node at a given index. It operates the same
+     * way that remove does, however it doesn't return the value at the
+     * specified index: it deletes it.
+     * 
+     * @param int index of node to be deleted
+     * @return Nothing
+     */
+    @Override
+    public void delete(int index){
+        //check index range
+        if(!insideRange(index, "Failed to delete node: ")){
+            return;
+        }
+
+        if(count == 0){
+            //can't delete from an empty list
+            fail("Failed to delete node: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            //if index = size then it's an invalid index
+            fail("Failed to delete node: ", "Outside of list range");
+        }
+        else{
+            //shift list to adjust for removed node
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     * 
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        //Can't be a negative index position
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        //Less than size because index = size would append to end of list
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will extract the data from the node at a specified index
+     * and return it. It will then shift manipulate thelist to account for 
+     * the removed node.
+     * 
+     * @param int index of node to remove
+     * @return T data at specified node, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @Override
+    public T remove(int index){
+        //check index range
+        if(!insideRange(index, "Failed to remove node: ")){
+            return null;
+        }
+
+        if(count == 0){
+            //can't remove from an empty list
+            fail("Failed to remove node: ", "Can't remove from empty " +
+                " list");
+            return null;
+        }
+        else if(index == count){
+            //if index = size then it's an invalid index
+            fail("Failed to remove node: ", "Outside of list range");
+            return null;
+        }
+
+        //shift list to adjust for removed node and keep its data
+        return shiftList(index);
+    }
+
+    /**
+     * tryRemove will take the data from the node at a specified index
+     * like remove does, but never reports an invalid index whatever the
+     * error policy is. It suits callers that expect to miss often.
+     * 
+     * @param int index of node to remove
+     * @return T data at specified node, null if index is invalid
+     */
+    public T tryRemove(int index){
+        if(index < 0 || index >= count){
+            if(metrics != null){
+                metrics.failed();
+            }
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * get will return the data at a specified index without changing the
+     * list. The node is found by walking from whichever end is closer.
+     * 
+     * @param int index of node to read
+     * @return T data at specified node, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @Override
+    public T get(int index){
+        long start = ListMetrics.start(metrics);
+
+        //check index range
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == count){
+            //if index = size then it's an invalid index
+            fail("Failed to get node: ", "Outside of list range");
+            return null;
+        }
+
+        T retVal = nodeAt(index).data;
+
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.GET, start, distance(index),
+                count);
+        }
+        return retVal;
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     * 
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    @Override
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * getErrorPolicy returns what the list does when an operation can't
+     * be done.
+     * 
+     * @return ErrorPolicy policy in use
+     */
+    @Override
+    public ErrorPolicy getErrorPolicy(){
+        return errorPolicy;
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to. Nothing is built unless the policy needs it.
+     * 
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        if(metrics != null){
+            metrics.failed();
+        }
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * enableMetrics turns on counting of what the list does and returns
+     * the counters. Calling it again returns the same counters.
+     * 
+     * @return ListMetrics counters for this list
+     */
+    public ListMetrics enableMetrics(){
+        if(metrics == null){
+            metrics = new ListMetrics(getClass().getSimpleName(), count);
+        }
+        return metrics;
+    }
+
+    /**
+     * disableMetrics turns counting off. Counters already handed out keep
+     * the values they had.
+     * 
+     * @return Nothing
+     */
+    public void disableMetrics(){
+        metrics = null;
+    }
+
+    /**
+     * getMetrics returns the counters for this list.
+     * 
+     * @return ListMetrics counters, null if metrics aren't turned on
+     */
+    public ListMetrics getMetrics(){
+        return metrics;
+    }
+
+    /**
+     * distance gives the number of nodes nodeAt walks to reach an index.
+     * 
+     * @param int index inside the list
+     * @return int nodes walked from the nearer end
+     */
+    private int distance(int index){
+        return Math.min(index, count - 1 - index);
+    }
+
+    /**
+     * setNodePoolSize turns on node recycling. Nodes unlinked by remove,
+     * dequeue, pop or clear are kept, up to the given number of them, and
+     * reused by the next appends instead of allocating new ones. A queue
+     * or stack that is filled and emptied over and over then allocates
+     * nothing once its pool has filled. A size of zero turns recycling
+     * off and lets go of any pooled nodes.
+     * 
+     * @param int max most unlinked nodes to keep
+     * @return Nothing
+     */
+    public void setNodePoolSize(int max){
+        poolLimit = Math.max(max, 0);
+
+        //Drop the nodes that no longer fit
+        while(pooled > poolLimit){
+            pool = pool.link;
+            pooled--;
+        }
+    }
+
+    /**
+     * getNodePoolSize returns the most unlinked nodes the list will keep
+     * for reuse.
+     * 
+     * @return int size of the node pool, zero if recycling is off
+     */
+    public int getNodePoolSize(){
+        return poolLimit;
+    }
+
+    /**
+     * newNode makes a node for an append, taking one from the pool when
+     * there is one.
+     * 
+     * @param T data object the node holds
+     * @param Node link node it points to
+     * @return Node that is ready to link in
+     */
+    private Node newNode(T data, Node link){
+        if(pool == null){
+            return new Node(data, link);
+        }
+
+        Node node = pool;
+        pool = node.link;
+        pooled--;
+
+        node.data = data;
+        node.link = link;
+        return node;
+    }
+
+    /**
+     * recycle puts an unlinked node in the pool if there is room. Its
+     * data is cleared so the pool doesn't keep removed items reachable.
+     * 
+     * @param Node node that was unlinked
+     * @return Nothing
+     */
+    private void recycle(Node node){
+        if(pooled < poolLimit){
+            node.data = null;
+            node.back = null;
+            node.link = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    /**
+     * nodeAt will traverse the list once until it reaches the node at the
+     * given index. It starts from whichever end is closer, so the first
+     * and last index are found without any traversal. The index must
+     * already be known to be inside the list.
+     * 
+     * @param int index of node to find
+     * @return Node at the specified index
+     */
+    private Node nodeAt(int index){
+        Node position;
+
+        if(index < count / 2){
+            //Closer to the tail so walk forward along the back references
+            position = tail;
+            for(int i = 0; i < index; i++){
+                position = position.back;
+            }
+        }else{
+            //Closer to the head so walk down the links
+            position = head;
+            for(int i = count - 1; i > index; i--){
+                position = position.link;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * shiftList will shift a list from a specified index by finding the
+     * index node and joining the nodes on either side of it. This removes
+     * the index node from the linked list. Removing from either end of
+     * the list only moves the head or tail reference.
+     * 
+     * @param int index of node to shift from
+     * @return T data of the removed node
+     */
+    private T shiftList(int index){
+        long start = ListMetrics.start(metrics);
+        int walked = metrics == null ? 0 : distance(index);
+        Node removed = nodeAt(index);
+        unlink(removed, index);
+
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.REMOVE, start, walked, count);
+        }
+
+        T retVal = removed.data;
+        recycle(removed);
+        return retVal;
+    }
+
+    /**
+     * unlink takes a node out of the chain by joining the nodes on either
+     * side of it, moving the ends if needed. The node itself is left as it
+     * was for the caller to read and recycle.
+     * 
+     * @param Node removed node to take out
+     * @param int index of the node, for the value index
+     * @return Nothing
+     */
+    private void unlink(Node removed, int index){
+        if(valueIndex != null){
+            if(removed.link == null){
+                valueIndex.removedFirst(removed.data);
+            }
+            else if(removed.back == null){
+                valueIndex.removedLast(removed.data);
+            }
+            else{
+                valueIndex.removed(index, removed.data);
+            }
+        }
+
+        if(removed.back == null){
+            head = removed.link;
+        }else{
+            removed.back.link = removed.link;
+        }
+
+        if(removed.link == null){
+            tail = removed.back;
+        }else{
+            removed.link.back = removed.back;
+        }
+
+        count--;
+        modCount++;
+    }
+
+    /**
+     * linkBetween makes a node for an item and joins it in between two
+     * neighbouring nodes, moving the ends if needed.
+     * 
+     * @param T data item for the new node
+     * @param Node below node at the index under it, null at index zero
+     * @param Node above node at the index over it, null at the head
+     * @return Node the new node
+     */
+    private Node linkBetween(T data, Node below, Node above){
+        Node node = newNode(data, below);
+        node.back = above;
+
+        if(below == null){
+            tail = node;
+        }else{
+            below.back = node;
+        }
+
+        if(above == null){
+            head = node;
+        }else{
+            above.link = node;
+        }
+
+        count++;
+        modCount++;
+
+        if(valueIndex != null){
+            if(above == null){
+                valueIndex.appended(data);
+            }else{
+                valueIndex.inserted(data);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * detachTail moves the nodes at the lowest indexes, up to the given
+     * number of them, into an empty list. The run is found with one walk
+     * and then cut off by moving the tail, so the nodes keep their order
+     * and aren't copied.
+     * 
+     * @param int max most nodes to move
+     * @param List into empty list that receives the nodes
+     * @return Nothing
+     */
+    protected void detachTail(int max, List<T> into){
+        long start = ListMetrics.start(metrics);
+        int moved = Math.min(max, count);
+        if(moved <= 0){
+            return;
+        }
+
+        //Find the last node of the run
+        Node cut = tail;
+        for(int i = 1; i < moved; i++){
+            if(valueIndex != null){
+                valueIndex.removedFirst(cut.data);
+            }
+            cut = cut.back;
+        }
+        if(valueIndex != null){
+            valueIndex.removedFirst(cut.data);
+        }
+
+        into.tail = tail;
+        into.head = cut;
+        tail = cut.back;
+        cut.back = null;
+
+        if(tail == null){
+            head = null;
+        }else{
+            tail.link = null;
+        }
+
+        moveCount(moved, into);
+
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.REMOVE, start, moved, count);
+        }
+    }
+
+    /**
+     * detachHead moves the nodes at the highest indexes, up to the given
+     * number of them, into an empty list. The run is found with one walk
+     * and then cut off by moving the head.
+     * 
+     * @param int max most nodes to move
+     * @param List into empty list that receives the nodes
+     * @return Nothing
+     */
+    protected void detachHead(int max, List<T> into){
+        long start = ListMetrics.start(metrics);
+        int moved = Math.min(max, count);
+        if(moved <= 0){
+            return;
+        }
+
+        //Find the lowest node of the run
+        Node cut = head;
+        for(int i = 1; i < moved; i++){
+            if(valueIndex != null){
+                valueIndex.removedLast(cut.data);
+            }
+            cut = cut.link;
+        }
+        if(valueIndex != null){
+            valueIndex.removedLast(cut.data);
+        }
+
+        into.head = head;
+        into.tail = cut;
+        head = cut.link;
+        cut.link = null;
+
+        if(head == null){
+            tail = null;
+        }else{
+            head.back = null;
+        }
+
+        moveCount(moved, into);
+
+        if(metrics != null){
+            metrics.record(ListMetrics.Operation.REMOVE, start, moved, count);
+        }
+    }
+
+    /**
+     * moveCount updates the counts of this list and the list that just
+     * received some of its nodes.
+     * 
+     * @param int moved number of nodes that were moved
+     * @param List into list that received them
+     */
+    private void moveCount(int moved, List<T> into){
+        count -= moved;
+        into.count = moved;
+        modCount++;
+        into.modCount++;
+    }
+
+    /**
+     * clear will unlink every node, leaving the list empty.
+     * 
+     * @return Nothing
+     */
+    public void clear(){
+        //Keep what the pool has room for, the rest is left to the GC
+        Node position = head;
+        while(position != null && pooled < poolLimit){
+            Node next = position.link;
+            recycle(position);
+            position = next;
+        }
+
+        head = null;
+        tail = null;
+        count = 0;
+        modCount++;
+
+        if(metrics != null){
+            metrics.resized(0);
+        }
+
+        if(valueIndex != null){
+            valueIndex.clear();
+        }
+    }
+
+    /**
+     * sort puts the items in order from index zero up by relinking the
+     * nodes already in the list, so no items are copied and no nodes are
+     * made. It's a merge sort, so it takes O(n log n) comparisons and
+     * items that compare equal keep their order. A long list is split
+     * into runs that are sorted in parallel on the common fork join pool
+     * and then merged.
+     * 
+     * The runs are sorted along the back references only, and the links
+     * are set in one pass at the end, so if the comparator throws, or an
+     * error like running out of memory stops the sort, the links still
+     * hold the old order and the list is put back as it was.
+     * 
+     * @param Comparator order to sort the items into
+     * @return Nothing
+     */
+    public void sort(Comparator<? super T> order){
+        Objects.requireNonNull(order);
+        if(count < 2){
+            return;
+        }
+
+        Node sorted;
+        try{
+            SortTask task = new SortTask(tail, count, order);
+            sorted = count > SORT_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(task) : task.compute();
+        }catch(Throwable e){
+            //Mend the back references from the untouched links
+            for(Node position = head; position.link != null;
+                position = position.link){
+                position.link.back = position;
+            }
+            head.back = null;
+            throw e;
+        }
+
+        //Walk the sorted run once to set the links to match
+        Node previous = null;
+        for(Node position = sorted; position != null;
+            position = position.back){
+            position.link = previous;
+            previous = position;
+        }
+        tail = sorted;
+        head = previous;
+        modCount++;
+
+        if(valueIndex != null){
+            valueIndex.invalidate();
+        }
+    }
+
+    /**
+     * SortTask merge sorts a run of nodes joined by their back references.
+     * A run longer than the threshold sorts its first half on another
+     * worker while it sorts the second half itself.
+     */
+    private class SortTask extends RecursiveTask<Node>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Node first;
+        private final int length;
+        private final Comparator<? super T> order;
+
+        /**
+         * Full argument constructor sets the run of nodes to sort.
+         * 
+         * @param Node first node of the run
+         * @param int length number of nodes in the run
+         * @param Comparator order to sort the items into
+         */
+        public SortTask(Node first, int length, Comparator<? super T> order){
+            this.first = first;
+            this.length = length;
+            this.order = order;
+        }
+
+        @Override
+        protected Node compute(){
+            if(length <= SORT_THRESHOLD){
+                return mergeSort(first, length);
+            }
+
+            Node second = split(first, length / 2);
+            SortTask left = new SortTask(first, length / 2, order);
+            left.fork();
+
+            Node right;
+            try{
+                right = new SortTask(second, length - length / 2, order)
+                    .compute();
+            }finally{
+                //Wait for the other half even if this one threw, so no
+                //worker is still relinking while sort mends the list
+                left.quietlyJoin();
+            }
+            return merge(left.join(), right);
+        }
+
+        /**
+         * mergeSort sorts a run on this thread.
+         * 
+         * @param Node start first node of the run
+         * @param int size number of nodes in the run
+         * @return Node first node of the sorted run, which ends in null
+         */
+        private Node mergeSort(Node start, int size){
+            if(size == 1){
+                start.back = null;
+                return start;
+            }
+
+            Node second = split(start, size / 2);
+            Node left = mergeSort(start, size / 2);
+            return merge(left, mergeSort(second, size - size / 2));
+        }
+
+        /**
+         * split cuts a run after a number of nodes.
+         * 
+         * @param Node start first node of the run
+         * @param int size number of nodes to keep in the first part
+         * @return Node first node of the second part
+         */
+        private Node split(Node start, int size){
+            Node last = start;
+            for(int i = 1; i < size; i++){
+                last = last.back;
+            }
+
+            Node retVal = last.back;
+            last.back = null;
+            return retVal;
+        }
+
+        /**
+         * merge joins two sorted runs into one. On a tie the node from the
+         * left run goes first, which keeps the sort stable.
+         * 
+         * @param Node left first node of the earlier run
+         * @param Node right first node of the later run
+         * @return Node first node of the merged run
+         */
+        private Node merge(Node left, Node right){
+            Node retVal;
+            if(order.compare(right.data, left.data) < 0){
+                retVal = right;
+                right = right.back;
+            }else{
+                retVal = left;
+                left = left.back;
+            }
+
+            Node last = retVal;
+            while(left != null && right != null){
+                if(order.compare(right.data, left.data) < 0){
+                    last.back = right;
+                    right = right.back;
+                }else{
+                    last.back = left;
+                    left = left.back;
+                }
+                last = last.back;
+            }
+            last.back = left != null ? left : right;
+
+            return retVal;
+        }
+    }
+
+    /**
+     * drainTo will move every item into a collection, from index zero up,
+     * and leave the list empty.
+     * 
+     * @param Collection target to add the items to
+     * @return int number of items moved
+     */
+    public int drainTo(Collection<? super T> target){
+        return drain(target, false);
+    }
+
+    /**
+     * drain adds every item to a collection in one walk, starting from
+     * either end of the list, and then clears the list.
+     * 
+     * @param Collection target to add the items to
+     * @param boolean fromHead true to start at the highest index
+     * @return int number of items moved
+     */
+    protected int drain(Collection<? super T> target, boolean fromHead){
+        int moved = count;
+
+        if(fromHead){
+            for(Node position = head; position != null;
+                position = position.link){
+                target.add(position.data);
+            }
+        }else{
+            for(Node position = tail; position != null;
+                position = position.back){
+                target.add(position.data);
+            }
+        }
+
+        clear();
+        return moved;
+    }
+
+    /**
+     * toString will enumerate the list and return it as a string with
+     * values separated by white space.
+     * 
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        try{
+            writeTo(retVal);
+        }catch(IOException e){
+            //A StringBuilder never throws, but Appendable says it might
+            throw new UncheckedIOException(e);
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * writeTo will enumerate the list into an Appendable in the same form
+     * as toString, one value at a time, so a large list can go straight
+     * to a log or file without building the whole string first.
+     * 
+     * @param Appendable out where the values are written
+     * @return Nothing
+     * @throws IOException if out can't be written to
+     */
+    public void writeTo(Appendable out) throws IOException{
+        //Traverses list while not at tail
+        for(Node position = head; position != null;
+            position = position.link){
+            out.append(String.valueOf(position.data)).append(' ');
+        }
+    }
+
+    /**
+     * writeTo will write the list to a channel in a compact binary form
+     * that readFrom can load back. Items are encoded from index zero up
+     * into blocks of about 64KB. Each block is sent as soon as it fills,
+     * so only one block is ever held in memory.
+     * 
+     * The form is the magic number, then each block as its byte length,
+     * its item count and the encoded items, then an empty block to mark
+     * the end.
+     * 
+     * @param WritableByteChannel channel where the list is written
+     * @param ElementCodec codec that encodes each item
+     * @return Nothing
+     * @throws IOException if the channel can't be written to or one item
+     *     encodes to more than a megabyte
+     */
+    public void writeTo(WritableByteChannel channel,
+        ElementCodec<? super T> codec) throws IOException{
+        Block block = new Block();
+        DataOutputStream out = new DataOutputStream(block);
+        int items = 0;
+
+        ByteBuffer magic = ByteBuffer.allocate(4).putInt(MAGIC);
+        magic.flip();
+        writeFully(channel, magic);
+
+        for(Node position = tail; position != null;
+            position = position.back){
+            codec.write(position.data, out);
+            items++;
+
+            if(block.size() > MAX_BLOCK){
+                throw new IOException("Item too big to write: "
+                    + block.size() + " bytes");
+            }
+            if(block.size() >= BLOCK_SIZE){
+                writeBlock(channel, block, items);
+                items = 0;
+            }
+        }
+
+        if(items > 0){
+            writeBlock(channel, block, items);
+        }
+
+        //Empty block marks the end of the list
+        writeBlock(channel, block, 0);
+    }
+
+    /**
+     * readFrom will read a list written by writeTo from a channel and
+     * append its items in their original order. Blocks are read and
+     * decoded one at a time, and nothing past the end of the list is read
+     * from the channel. The items are linked off to the side and only
+     * joined to the list once the whole list has been read, so a read
+     * that fails leaves the list as it was.
+     * 
+     * @param ReadableByteChannel channel where the list is read from
+     * @param ElementCodec codec that decodes each item
+     * @return int number of items appended
+     * @throws IOException if the channel can't be read or doesn't hold a
+     *     list
+     */
+    public int readFrom(ReadableByteChannel channel,
+        ElementCodec<? extends T> codec) throws IOException{
+        long start = ListMetrics.start(metrics);
+        ByteBuffer header = ByteBuffer.allocate(8);
+        byte[] bytes = new byte[0];
+        Node first = null;
+        Node last = null;
+        int total = 0;
+
+        header.limit(4);
+        readFully(channel, header);
+        if(header.getInt(0) != MAGIC){
+            throw new IOException("Channel doesn't hold a written list");
+        }
+
+        while(true){
+            header.clear();
+            readFully(channel, header);
+            int length = header.getInt(0);
+            int items = header.getInt(4);
+
+            //Check the header before trusting it with an array
+            if(length < 0 || length > MAX_BLOCK || items < 0){
+                throw new IOException("Bad block header: " + length
+                    + " bytes, " + items + " items");
+            }
+
+            if(items == 0){
+                join(first, last, total, start);
+                return total;
+            }
+
+            //Reuse the block array unless this block is bigger
+            if(bytes.length < length){
+                bytes = new byte[length];
+            }
+            readFully(channel, ByteBuffer.wrap(bytes, 0, length));
+
+            DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes, 0, length));
+            for(int i = 0; i < items; i++){
+                Node node = newNode(codec.read(in), last);
+
+                if(last == null){
+                    first = node;
+                }else{
+                    last.back = node;
+                }
+
+                last = node;
+            }
+            total += items;
+        }
+    }
+
+    /**
+     * Block gathers encoded items for writeTo and lets the gathered bytes
+     * be sent without copying them out first.
+     */
+    private static class Block extends ByteArrayOutputStream
+    {
+        /**
+         * No argument constructor makes room for a full block.
+         */
+        public Block(){
+            super(BLOCK_SIZE + 1024);
+        }
+
+        /**
+         * contents wraps the bytes gathered so far in a buffer.
+         * 
+         * @return ByteBuffer over the gathered bytes
+         */
+        public ByteBuffer contents(){
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    /**
+     * writeBlock sends a block's length, item count and bytes to the
+     * channel and empties the block for the next items.
+     * 
+     * @param WritableByteChannel channel where the block is written
+     * @param Block block of encoded items
+     * @param int items number of items in the block
+     * @throws IOException if the channel can't be written to
+     */
+    private static void writeBlock(WritableByteChannel channel, Block block,
+        int items) throws IOException{
+        ByteBuffer header = ByteBuffer.allocate(8);
+        header.putInt(block.size()).putInt(items);
+        header.flip();
+
+        writeFully(channel, header);
+        writeFully(channel, block.contents());
+        block.reset();
+    }
+
+    /**
+     * writeFully keeps writing until all of a buffer is in the channel.
+     * 
+     * @param WritableByteChannel channel to write to
+     * @param ByteBuffer buffer to write
+     * @throws IOException if the channel can't be written to
+     */
+    private static void writeFully(WritableByteChannel channel,
+        ByteBuffer buffer) throws IOException{
+        while(buffer.hasRemaining()){
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * readFully keeps reading until a buffer is full.
+     * 
+     * @param ReadableByteChannel channel to read from
+     * @param ByteBuffer buffer to fill
+     * @throws IOException if the channel ends first or can't be read
+     */
+    private static void readFully(ReadableByteChannel channel,
+        ByteBuffer buffer) throws IOException{
+        while(buffer.hasRemaining()){
+            if(channel.read(buffer) < 0){
+                throw new EOFException("Channel ended inside a list");
+            }
+        }
+    }
+
+    /**
+     * iterator returns an iterator over the list from index zero up. It
+     * throws a ConcurrentModificationException if a node is linked or
+     * unlinked while it is in use.
+     * 
+     * @return Iterator over the items in index order
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private Node next = tail;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext(){
+                return next != null;
+            }
+
+            @Override
+            public T next(){
+                if(modCount != expectedModCount){
+                    throw new ConcurrentModificationException();
+                }
+                if(next == null){
+                    throw new NoSuchElementException();
+                }
+
+                T retVal = next.data;
+                next = next.back;
+                return retVal;
+            }
+        };
+    }
+
+    /**
+     * cursor returns a cursor that starts before index zero. Unlike the
+     * iterator it can change the list as it goes, and every change is made
+     * at the node it holds without walking from either end.
+     * 
+     * @return Cursor before the first item
+     */
+    public Cursor cursor(){
+        return new Cursor();
+    }
+
+    /**
+     * removeIf takes out every item that passes a test in one walk of the
+     * list, unlinking each one where the cursor finds it.
+     * 
+     * @param Predicate test items to remove must pass
+     * @return int number of items removed
+     */
+    public int removeIf(Predicate<? super T> test){
+        Objects.requireNonNull(test);
+        int removed = 0;
+
+        for(Cursor cursor = cursor(); cursor.hasNext();){
+            if(test.test(cursor.next())){
+                cursor.remove();
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Cursor sits between two items of the list, starting before index
+     * zero, and remembers the node it last passed as its current item.
+     * next and previous move it along the back references and links, and
+     * set, remove, insertBefore and insertAfter change the list at the
+     * current item in constant time. add inserts where the cursor sits,
+     * like any ListIterator.
+     * 
+     * Changes made through the cursor keep it in step with the list, but
+     * it throws a ConcurrentModificationException if the list is changed
+     * any other way while it is in use.
+     */
+    public class Cursor implements ListIterator<T>
+    {
+        private Node next = tail;
+        private Node current = null;
+        private int nextIndex = 0;
+        private int expectedModCount = modCount;
+
+        /**
+         * hasNext checks whether there is an item after the cursor.
+         * 
+         * @return boolean true if next can be called
+         */
+        @Override
+        public boolean hasNext(){
+            return next != null;
+        }
+
+        /**
+         * next moves the cursor past the item after it.
+         * 
+         * @return T item passed, now the current item
+         */
+        @Override
+        public T next(){
+            checkModCount();
+            if(next == null){
+                throw new NoSuchElementException();
+            }
+
+            current = next;
+            next = next.back;
+            nextIndex++;
+            return current.data;
+        }
+
+        /**
+         * hasPrevious checks whether there is an item before the cursor.
+         * 
+         * @return boolean true if previous can be called
+         */
+        @Override
+        public boolean hasPrevious(){
+            return nextIndex > 0;
+        }
+
+        /**
+         * previous moves the cursor back past the item before it.
+         * 
+         * @return T item passed, now the current item
+         */
+        @Override
+        public T previous(){
+            checkModCount();
+            if(nextIndex == 0){
+                throw new NoSuchElementException();
+            }
+
+            next = next == null ? head : next.link;
+            current = next;
+            nextIndex--;
+            return current.data;
+        }
+
+        /**
+         * nextIndex gives the index of the item after the cursor.
+         * 
+         * @return int index next would return, the size at the end
+         */
+        @Override
+        public int nextIndex(){
+            return nextIndex;
+        }
+
+        /**
+         * previousIndex gives the index of the item before the cursor.
+         * 
+         * @return int index previous would return, -1 at the start
+         */
+        @Override
+        public int previousIndex(){
+            return nextIndex - 1;
+        }
+
+        /**
+         * set replaces the current item.
+         * 
+         * @param T next object to put in place of the current item
+         * @return Nothing
+         */
+        @Override
+        public void set(T next){
+            checkCurrent();
+
+            if(valueIndex != null){
+                valueIndex.replaced(currentIndex(), current.data, next);
+            }
+            current.data = next;
+        }
+
+        /**
+         * remove takes the current item out of the list. There is no
+         * current item again until the cursor moves.
+         * 
+         * @return Nothing
+         */
+        @Override
+        public void remove(){
+            checkCurrent();
+            long start = ListMetrics.start(metrics);
+
+            int index = currentIndex();
+            if(current == next){
+                //Passed going backwards, so the cursor sits below it
+                next = current.back;
+            }else{
+                nextIndex--;
+            }
+
+            unlink(current, index);
+            recycle(current);
+            current = null;
+            expectedModCount = modCount;
+
+            if(metrics != null){
+                metrics.record(ListMetrics.Operation.REMOVE, start, 0, count);
+            }
+        }
+
+        /**
+         * add inserts an item where the cursor sits, so previous would
+         * return it and next is unchanged.
+         * 
+         * @param T next object to be added
+         * @return Nothing
+         */
+        @Override
+        public void add(T next){
+            checkModCount();
+            Node below = this.next == null ? head : this.next.link;
+
+            insert(next, below, this.next);
+            nextIndex++;
+            current = null;
+        }
+
+        /**
+         * insertBefore inserts an item just below the current item. The
+         * new item ends up behind the cursor.
+         * 
+         * @param T next object to be added
+         * @return Nothing
+         */
+        public void insertBefore(T next){
+            checkCurrent();
+            insert(next, current.link, current);
+            nextIndex++;
+        }
+
+        /**
+         * insertAfter inserts an item just above the current item. The new
+         * item ends up ahead of the cursor, so next returns it if the
+         * cursor was moving forwards.
+         * 
+         * @param T next object to be added
+         * @return Nothing
+         */
+        public void insertAfter(T next){
+            checkCurrent();
+            Node node = insert(next, current, current.back);
+
+            if(current != this.next){
+                this.next = node;
+            }
+        }
+
+        /**
+         * insert links a new node and brings the cursor up to date with the
+         * list.
+         * 
+         * @param T data item for the new node
+         * @param Node below node under it, null at index zero
+         * @param Node above node over it, null at the head
+         * @return Node the new node
+         */
+        private Node insert(T data, Node below, Node above){
+            long start = ListMetrics.start(metrics);
+            Node retVal = linkBetween(data, below, above);
+            expectedModCount = modCount;
+
+            if(metrics != null){
+                metrics.record(ListMetrics.Operation.INSERT, start, 0, count);
+            }
+            return retVal;
+        }
+
+        /**
+         * currentIndex gives the index of the current item.
+         * 
+         * @return int index of the current item
+         */
+        private int currentIndex(){
+            return current == next ? nextIndex : nextIndex - 1;
+        }
+
+        /**
+         * checkCurrent makes sure there is a current item to change.
+         * 
+         * @return Nothing
+         */
+        private void checkCurrent(){
+            checkModCount();
+            if(current == null){
+                throw new IllegalStateException("No current item");
+            }
+        }
+
+        /**
+         * checkModCount makes sure the list was only changed through this
+         * cursor since it last looked.
          * 
-         * @param Object data object to set
-         * @param Node link to set reference
+         * @return Nothing
          */
-        public Node(Object data, Node link){
-            this.data = data;
-            this.link = link;
+        private void checkModCount(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
         }
     }
 
-    //Head node that indicates start of list
-    private Node head = null;
-
     /**
-     * No argument constructor sets head to null to indicate start of list.
+     * spliterator returns a spliterator over the list from index zero up.
+     * It knows its exact size and splits by copying a growing batch of its
+     * items into an array, so a parallel stream can fan the list out
+     * across threads without walking the list more than once.
+     * 
+     * @return Spliterator over the items in index order
      */
-    public List(){
-        head = null;
+    @Override
+    public Spliterator<T> spliterator(){
+        return new NodeSpliterator(tail, count, modCount);
     }
 
     /**
-     * Append will add a node to the end of the list by creating a new 
-     * node with the new object as data. The new node points to the previous
-     * head.
+     * stream returns a sequential stream of the items from index zero up.
      * 
-     * @param Object next object to be added
-     * @return Nothing
+     * @return Stream of the items in the list
      */
-    public void append(Object next){
-        //Sets head node to a new node with passed object that points to
-        //previous head
-        this.head = new Node(next,head);
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
-     * Size will traverse through a list and return the number of items in
-     * the list. It runs until the Node is equal to null, which indicates 
-     * the start of the list (no more items to count).
+     * parallelStream returns a stream of the items that may be processed
+     * on the common fork join pool.
      * 
-     * @return int size is the number of objects in the list
+     * @return Stream of the items in the list, possibly parallel
      */
-    public int size(){
-        int count = 0;
-        Node position = head;
+    public Stream<T> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
 
-        //While we're not at the starting node continue to count
-        while(!(position == null)){
-            count++;
-            position = position.link; //Moves to preceding node
-        }
+    /**
+     * subList returns a view of the items from one index up to but not
+     * including another. Nothing is copied. The view fails fast if a node
+     * is linked or unlinked after it is made.
+     * 
+     * @param int from first index in the view
+     * @param int to index after the last one in the view
+     * @return ListView of the range, empty if the range is invalid
+     * @exception reported by the error policy when range outside of list
+     */
+    public ListView<T> subList(int from, int to){
+        return ListView.of(this).subList(from, to);
+    }
 
-        return count;
+    /**
+     * filter returns a view of the items that pass a test. The test is run
+     * as the view is walked, not when it is made.
+     * 
+     * @param Predicate test items must pass
+     * @return ListView of the matching items
+     */
+    public ListView<T> filter(Predicate<? super T> test){
+        return ListView.of(this).filter(test);
     }
 
     /**
-     * isEmpty checks to see if the list is empty by looking at the current
-     * head. If it's equal to null then we no that the list is empty.
+     * map returns a view of each item passed through a function. The
+     * function is run as the view is walked, not when it is made.
      * 
-     * @return boolean true if list is empty
+     * @param Function mapper applied to each item
+     * @return ListView of the mapped items
      */
-    public boolean isEmpty(){
-        if(head == null){
-            return true;
-        }
+    public <R> ListView<R> map(Function<? super T, ? extends R> mapper){
+        return ListView.of(this).map(mapper);
+    }
 
-        return false;
+    /**
+     * reversed returns a view of the items from the highest index down.
+     * The view walks the links from the head, so nothing is copied.
+     * 
+     * @return ListView of the items in reverse order
+     */
+    public ListView<T> reversed(){
+        return ListView.of(this).reversed();
     }
 
     /**
-     * insert will insert an object into a specified index position
-     * as long as it's valid. There are three unique cases to look for:
-     * one when size is zero, one when size is 1, and the other when
-     * size is greater than one.
+     * walk is the hook ListView iterates with. It goes through the items
+     * from one index up to another, or down from the top of the range,
+     * and fails fast if the list's modCount isn't the one expected.
      * 
-     * @param object next object to be added at index
-     * @param int index where the node should be changed
-     * @return Nothing
-     * @exception caught when index outside of range
+     * @param int from first index to walk, inside the list
+     * @param int to index after the last one to walk, at most the size
+     * @param boolean descending true to walk from the top of the range down
+     * @param int expectedModCount modCount the list should keep
+     * @return Iterator over the range
      */
-    public void insert(Object next, int index){
-        try{
-            //check index
-            this.insideRange(index);
+    Iterator<T> walk(final int from, final int to, final boolean descending,
+        final int expectedModCount){
+        if(modCount != expectedModCount){
+            throw new ConcurrentModificationException();
+        }
 
-            //if index check for conditions
-            if(this.size() == 0 || index == this.size()){
-                //empty list or index chosen to be new head so append
-                append(next);
-            }
-            else if(this.size() == 1){
-                //size is one and didn't append so change index 0
-                head = new Node(next, head.link);
+        return new Iterator<T>(){
+            private Node next = from == to ? null
+                : nodeAt(descending ? to - 1 : from);
+            private int remaining = to - from;
+
+            @Override
+            public boolean hasNext(){
+                return remaining > 0;
             }
-            else{
-                //didn't append and size is greater than 1 so find node
-                //and change it
-                Node position = head;
-
-                //traverse list until index node is reached
-                for(int i = this.size() - 1; i > index; i--){
-                    //cycles through nodes by grabbing reference
-                    position = position.link;
+
+            @Override
+            public T next(){
+                if(modCount != expectedModCount){
+                    throw new ConcurrentModificationException();
+                }
+                if(remaining == 0){
+                    throw new NoSuchElementException();
                 }
 
-                position.data = next;
+                T retVal = next.data;
+                next = descending ? next.link : next.back;
+                remaining--;
+                return retVal;
             }
-        }catch(LinkedListException e){
-            //Index was outside of range so throw error message
-            System.err.print("Failed to insert object: ");
-            System.err.println(e.getMessage());
-        }
+        };
     }
 
     /**
-     * Delete will delete the node at a given index. It operates the same
-     * way that remove does, however it doesn't return the value at the
-     * specified index: it deletes it.
+     * version returns the list's modCount, so a view can tell whether the
+     * list has had a node linked or unlinked since it was made.
      * 
-     * @param int index of node to be deleted
-     * @return Nothing
+     * @return int number of structural changes so far
      */
-    public void delete(int index){
-        try{
-            //check index range
-            insideRange(index);
+    int version(){
+        return modCount;
+    }
+
+    /**
+     * NodeSpliterator covers a run of nodes starting at a given node and
+     * following the back references for a given number of nodes. A split
+     * copies the next batch of items into an array and moves past them,
+     * and each batch is bigger than the last, so splitting walks every
+     * node once however many splits are made. Since the size of every run
+     * is known it reports exact sizes for itself and any spliterator
+     * split from it.
+     */
+    private class NodeSpliterator implements Spliterator<T>
+    {
+        private Node current;
+        private int remaining;
+        private final int expectedModCount;
+
+        //Items copied by the last split
+        private int batch = 0;
+
+        /**
+         * Full argument constructor sets the run of nodes to cover.
+         * 
+         * @param Node first node of the run
+         * @param int remaining number of nodes in the run
+         * @param int expectedModCount modCount the list should keep
+         */
+        public NodeSpliterator(Node first, int remaining,
+            int expectedModCount){
+            this.current = first;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+            if(remaining <= 0){
+                return false;
+            }
+
+            T data = current.data;
+            current = current.back;
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action){
+            //Check every node, since the action may change the list and
+            //leave current on an unlinked or recycled node
+            for(; remaining > 0; remaining--){
+                if(modCount != expectedModCount){
+                    throw new ConcurrentModificationException();
+                }
 
-            if(this.size() == 0){
-                //if empty list throw exception
-                throw new LinkedListException("Can't delete from empty " +
-                    " list");
+                T data = current.data;
+                current = current.back;
+                action.accept(data);
             }
-            else if(index == this.size()){
-                //if index = size then it's an invalid index
-                throw new LinkedListException("Outside of list range");
+        }
+
+        @Override
+        public Spliterator<T> trySplit(){
+            if(remaining <= 1){
+                return null;
             }
-            else if(this.size() == 1){
-                //if size = 1 then we're creating empty list
-                head = null;
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
             }
-            else{
-                //shift list to adjust for removed node
-                shiftList(index);
+
+            //Copy the next batch off into an array and move past it
+            int size = Math.min(Math.min(batch + BATCH_UNIT, remaining),
+                MAX_BATCH);
+            Object[] items = new Object[size];
+            for(int i = 0; i < size; i++){
+                items[i] = current.data;
+                current = current.back;
             }
-        }catch(LinkedListException e){
-            System.err.println("Failed to delete node: " + e.getMessage());
+            remaining -= size;
+            batch = size;
+
+            return Spliterators.spliterator(items, 0, size,
+                Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize(){
+            return remaining;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED
+                | Spliterator.SUBSIZED;
         }
     }
 
     /**
-     * insideRange will check to make sure a given index is within the
-     * valid range. The valid range is greater than zero and less than
-     * or equal to the size of the list.
+     * enableValueIndex turns on an index from each value in the list to
+     * the indexes holding it. While it's on, indexOf, firstIndexOf and
+     * contains take constant expected time instead of scanning the list.
      * 
-     * @param int index to check
-     * @return boolean true if inside valid range
-     * @throws LinkedListException when outside of valid range
+     * The index follows appends, replacements and removals anywhere in
+     * the list as they happen. Inserting in the middle with a cursor or
+     * sorting shifts indexes in a way it can't follow, so the indexes are
+     * then rebuilt in one pass at the next indexOf or firstIndexOf, while
+     * contains stays current. Values are found by equals and hashCode, so
+     * they shouldn't change while they're in the list.
+     * 
+     * @return Nothing
      */
-    private boolean insideRange(int index) throws LinkedListException{
-        //Can't be a negative index position
-        if(index < 0){
-            throw new LinkedListException("Index outside of list range -"
-                + " must be greater than zero");
-        }
+    public void enableValueIndex(){
+        if(valueIndex == null){
+            valueIndex = new ValueIndex();
 
-        //Less than size because index = size would append to end of list
-        if(index > this.size()){
-            throw new LinkedListException("Index outside of list range -"
-                + " must be less than size");
+            for(Node position = tail; position != null;
+                position = position.back){
+                valueIndex.appended(position.data);
+            }
         }
+    }
 
-        return true;
+    /**
+     * disableValueIndex turns the value index off and frees it.
+     * 
+     * @return Nothing
+     */
+    public void disableValueIndex(){
+        valueIndex = null;
     }
 
     /**
-     * Remove will extract the data from the node at a specified index
-     * and return it. It will then shift manipulate thelist to account for 
-     * the removed node.
+     * isValueIndexed checks whether the value index is on.
      * 
-     * @param int index of node to remove
-     * @return Object data at specified node
-     * @exception when given invalid index
+     * @return boolean true if lookups use the value index
      */
-    public Object remove(int index){
-        Object retVal = null;
-        try{
-            //check index range
-            insideRange(index);
+    public boolean isValueIndexed(){
+        return valueIndex != null;
+    }
 
-            if(this.size() == 0){
-                //if empty list throw exception
-                throw new LinkedListException("Can't remove from empty " +
-                    " list");
-            }
-            else if(index == this.size()){
-                //if index = size then it's an invalid index
-                throw new LinkedListException("Outside of list range");
-            }
-            else if(this.size() == 1){
-                retVal = head.data;
-                head = null;
+    /**
+     * currentIndex returns the value index, first rebuilding it from
+     * index zero up if the list changed in a way it couldn't follow.
+     * 
+     * @return ValueIndex that matches the list
+     */
+    private ValueIndex currentIndex(){
+        if(valueIndex.isStale()){
+            valueIndex.clear();
+            for(Node position = tail; position != null;
+                position = position.back){
+                valueIndex.appended(position.data);
             }
-            else{
-                //Set position to head
-                Node position = head;
+        }
 
-                //Traverse list until index position is reached
-                for(int i = this.size() - 1; i > index; i--){
-                    position = position.link;
-                }
-                retVal = position.data;
+        return valueIndex;
+    }
 
-                //shift list to adjust for removed node
-                shiftList(index);
+    /**
+     * contains checks whether an object equal to the target is in the
+     * list.
+     * 
+     * @param Object target to look for
+     * @return boolean true if the target is in the list
+     */
+    public boolean contains(Object target){
+        if(valueIndex != null){
+            long start = ListMetrics.start(metrics);
+            boolean retVal = valueIndex.contains(target);
+
+            if(metrics != null){
+                metrics.record(ListMetrics.Operation.INDEX_OF, start, 0,
+                    count);
             }
-        }catch(LinkedListException e){
-            System.err.println("Failed to remove node: " + e.getMessage());
-            retVal = null;
-        }finally{
             return retVal;
         }
 
+        return indexOf(target) != -1;
     }
 
     /**
-     * shiftList will shift a list from a specified index by traversing
-     * the list until it reaches the node that links to the index node.
-     * It then sets it's link to index's node which removes the index 
-     * node from the linked list.
+     * firstIndexOf will find the lowest index holding an object equal to
+     * the target, walking up from index zero unless the value index is on.
      * 
-     * @param int index of node to shift from
-     * @return none
+     * @param Object target to look for
+     * @return int lowest index of target, -1 if it isn't in the list
      */
-    private void shiftList(int index){
-        if(index == this.size() - 1){
-            head = head.link;
-        }else{
-            //Set position to head
-            Node position = head;
+    public int firstIndexOf(Object target){
+        long start = ListMetrics.start(metrics);
+        int retVal = -1;
 
-            //Traverse through until reach node linking to index
-            for(int i = this.size() - 1; i > index + 1; i--){
-                position = position.link;
+        if(valueIndex != null){
+            retVal = currentIndex().firstIndexOf(target);
+        }
+        else{
+            Node position = tail;
+            for(int i = 0; i < count; i++){
+                if(Objects.equals(position.data, target)){
+                    retVal = i;
+                    break;
+                }
+                position = position.back;
             }
+        }
 
-            position.link = position.link.link;
+        if(metrics != null){
+            int walked = valueIndex != null ? 0
+                : retVal == -1 ? count : retVal + 1;
+            metrics.record(ListMetrics.Operation.INDEX_OF, start, walked,
+                count);
         }
+        return retVal;
     }
 
     /**
-     * toString will enumerate the list and return it as a string with
-     * values separated by white space.
+     * indexOf will find the highest index holding an object equal to the
+     * target. Objects are compared with equals rather than by reference,
+     * so boxed numbers match by value. The list is scanned from the head
+     * unless the value index is on.
      * 
-     * @return String enumeration of list
+     * @param Object target to look for
+     * @return int index of target, -1 if it isn't in the list
      */
     @Override
-    public String toString(){
-        String retVal = "";
-        Node position = head;
+    public int indexOf(Object target){
+        long start = ListMetrics.start(metrics);
+        int retVal = -1;
 
-        //Traverses list while not at tail
-        while(position != null){
-            retVal += position.data + " ";
-            position = position.link;
+        if(valueIndex != null){
+            retVal = currentIndex().lastIndexOf(target);
+        }
+        else{
+            Node position = head;
+
+            //Walk down from the head once, counting the index as we go
+            for(int i = count - 1; i >= 0; i--){
+                if(Objects.equals(position.data, target)){
+                    retVal = i;
+                    break;
+                }
+                position = position.link;
+            }
         }
 
+        if(metrics != null){
+            int walked = valueIndex != null ? 0
+                : retVal == -1 ? count : count - retVal;
+            metrics.record(ListMetrics.Operation.INDEX_OF, start, walked,
+                count);
+        }
         return retVal;
     }
 
-    public int indexOf(Object target){
+    /**
+     * scanned finds a value by walking the list, to check the value index
+     * against.
+     * 
+     * @param List list to walk
+     * @param Object target to look for
+     * @param boolean first true for the lowest index, false for highest
+     * @return int index of target, -1 if it isn't in the list
+     */
+    private static int scanned(List<?> list, Object target, boolean first){
         int retVal = -1;
-        if(this.size() == 0){
-            return retVal;
-        }else{
-            Node position = head;
-            for(int i = this.size(); i > 0; i--){
-                if(position.data == target){
-                    retVal = i - 1;
-                    return retVal;
+        int index = 0;
+        for(Object item : list){
+            if(Objects.equals(item, target)){
+                retVal = index;
+                if(first){
+                    break;
                 }
-                position = position.link;
             }
+            index++;
         }
         return retVal;
     }
 
     public static void main(String[] args){
-        List empty = new List();
-        List one = new List();
-        List multiple = new List();
+        List<Integer> empty = new List<Integer>();
+        List<Integer> one = new List<Integer>();
+        List<Integer> multiple = new List<Integer>();
 
         one.append(5);
         multiple.append(10);
@@ -349,8 +2061,8 @@ public class List
         System.out.println("One (on insert):"+one);
         System.out.println("Multiple(on insert):"+ multiple);
         
-        List a = new List();
-        List b = new List();
+        List<Integer> a = new List<Integer>();
+        List<Integer> b = new List<Integer>();
         
         //Size, Append, Insert Tests
         System.out.println("\n Size/Removal/Insert Tests \n");
@@ -412,5 +2124,521 @@ public class List
         assert(a.indexOf(9) == 7): "index of 9 should be 7";
         assert(a.indexOf("") == -1): "index of not found should be -1";
         assert(a.indexOf(1) == 0): "index of 1 should be 0";
+
+        //Head and tail Tests
+        System.out.println("\n Head/Tail Tests \n");
+        assert((int) a.remove(0) == 1): "index 0 should be the tail";
+        assert((int) a.remove(a.size() - 1) == 9): "last index is the head";
+        assert(a.size() == 6): "Size should be 6";
+        assert(a.indexOf(2) == 0): "index of 2 should now be 0";
+        assert(a.indexOf(8) == 5): "index of 8 should now be 5";
+        assert(a.get(0) == 2 && a.get(5) == 8): "get should read by index";
+        assert(a.get(6) == null && a.get(-1) == null): "get OOB is null";
+        a.append(10);
+        assert(a.indexOf(10) == 6): "appended item should be the head";
+        System.out.println(a.toString());
+
+        //Values outside the Integer cache should still be found
+        a.append(1000);
+        assert(a.indexOf(1000) == 7): "boxed values should match by value";
+
+        //Iterator and Stream Tests
+        System.out.println("\n Iterator/Stream Tests \n");
+        int expected = 0;
+        for(int item : a){
+            assert(a.indexOf(item) == expected++): "walk should follow index";
+        }
+        assert(expected == a.size()): "walk should visit every item";
+
+        List<Integer> big = new List<Integer>();
+        for(int j = 0; j < 100000; j++){
+            big.append(j);
+        }
+        long sum = big.parallelStream().mapToLong(j -> j).sum();
+        assert(sum == 4999950000L): "parallel sum should see every item";
+        assert(big.stream().findFirst().get() == 0): "stream starts at 0";
+        assert(big.parallelStream().skip(4321).findFirst().get() == 4321):
+            "splits should keep index order";
+
+        //Changes made by a stream's action fail fast
+        List<Integer> shrinking = new List<Integer>();
+        shrinking.appendAll(Arrays.asList(1, 2, 3, 4));
+        try{
+            shrinking.stream().forEach((item) -> {
+                if(item == 2){
+                    shrinking.remove(shrinking.size() - 1);
+                    shrinking.remove(shrinking.size() - 1);
+                }
+            });
+            assert(false): "removing in forEach should fail fast";
+        }catch(ConcurrentModificationException e){
+            assert(shrinking.size() == 2): "both removes happened";
+        }
+        shrinking.setNodePoolSize(8);
+        shrinking.appendAll(Arrays.asList(3, 4));
+        try{
+            shrinking.stream().forEach((item) -> {
+                assert(item != null): "recycled node passed to action";
+                shrinking.clear();
+            });
+            assert(false): "clearing in forEach should fail fast";
+        }catch(ConcurrentModificationException e){
+            assert(shrinking.isEmpty()): "clear happened";
+        }
+
+        //Bulk Tests
+        System.out.println("\n Bulk Tests \n");
+        List<Integer> c = new List<Integer>();
+        c.append(1);
+        c.appendAll(Arrays.asList(2, 3, 4));
+        c.appendAll(new List<Integer>());
+        assert(c.size() == 4): "Size should be 4";
+        assert(c.indexOf(4) == 3): "appendAll should keep order";
+        assert(c.remove(0) == 1 && c.remove(0) == 2): "links should hold";
+        System.out.println(c.toString());
+
+        ArrayList<Integer> drained = new ArrayList<Integer>();
+        assert(c.drainTo(drained) == 2): "drain should move 2 items";
+        assert(c.isEmpty()): "drained list should be empty";
+        assert(drained.get(0) == 3 && drained.get(1) == 4): "index order";
+
+        //Error Policy Tests
+        List<Integer> quiet = new List<Integer>();
+        quiet.setErrorPolicy(ErrorPolicy.SILENT);
+        quiet.insert(1, 5);
+        quiet.delete(0);
+        assert(quiet.remove(0) == null && quiet.get(-1) == null): "silent";
+        quiet.append(1);
+        quiet.append(2);
+        assert(quiet.tryRemove(2) == null && quiet.tryRemove(-1) == null):
+            "tryRemove should miss quietly";
+        assert(quiet.tryRemove(0) == 1 && quiet.size() == 1): "took index 0";
+
+        quiet.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            quiet.remove(3);
+            assert(false): "remove past the end should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().endsWith("must be less than size")):
+                "message should say why";
+            assert(e.getStackTrace().length == 0): "should be stackless";
+        }
+        assert(quiet.tryRemove(3) == null): "tryRemove never throws";
+
+        //Node Pool Tests
+        List<Integer> pooledList = new List<Integer>();
+        List<Integer> plain = new List<Integer>();
+        Random mix = new Random(7);
+        pooledList.setNodePoolSize(8);
+        for(int step = 0; step < 2000; step++){
+            int op = mix.nextInt(4);
+            if(op < 2 || plain.isEmpty()){
+                pooledList.append(step);
+                plain.append(step);
+            }else{
+                int index = mix.nextInt(plain.size());
+                assert(Objects.equals(pooledList.remove(index),
+                    plain.remove(index))): "pooled remove should match";
+            }
+        }
+        assert(pooledList.toString().equals(plain.toString())):
+            "pooled list should match a plain one";
+        pooledList.clear();
+        assert(pooledList.pooled == 8): "clear should fill the pool";
+        pooledList.appendAll(Arrays.asList(1, 2, 3));
+        assert(pooledList.pooled == 5 && pooledList.indexOf(2) == 1):
+            "appends should take pooled nodes";
+        pooledList.setNodePoolSize(2);
+        assert(pooledList.pooled == 2): "shrinking should trim the pool";
+        pooledList.setNodePoolSize(0);
+        assert(pooledList.pool == null): "zero should turn pooling off";
+
+        //Metrics Tests
+        List<Integer> counted = new List<Integer>();
+        counted.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(counted.getMetrics() == null): "metrics should start off";
+        ListMetrics metrics = counted.enableMetrics();
+        ListMetrics.Snapshot earlier = metrics.snapshot();
+        for(int step = 0; step < 100; step++){
+            counted.append(step);
+        }
+        assert(counted.get(50) == 50 && counted.indexOf(99) == 99):
+            "metrics shouldn't change results";
+        counted.insert(-1, 10);
+        counted.remove(0);
+        counted.remove(500);
+        assert(counted.tryRemove(-1) == null): "tryRemove miss";
+        ListMetrics.Snapshot counts = metrics.snapshot();
+        System.out.println(counts);
+        assert(counts.calls(ListMetrics.Operation.APPEND) == 100):
+            "every append should be counted";
+        assert(counts.calls(ListMetrics.Operation.GET) == 1
+            && counts.calls(ListMetrics.Operation.INSERT) == 1
+            && counts.calls(ListMetrics.Operation.REMOVE) == 1
+            && counts.calls(ListMetrics.Operation.INDEX_OF) == 1):
+            "each kind of call should be counted";
+        assert(counts.failures() == 2): "both misses should be counted";
+        assert(counts.depth() == 99 && counts.maxDepth() == 100): "depth";
+        assert(counts.traversalHistogram(ListMetrics.Operation.APPEND)[0]
+            == 100): "appends walk nothing";
+        long[] gets = counts.traversalHistogram(ListMetrics.Operation.GET);
+        assert(gets[0] == 0 && gets[6] == 1): "get(50) walks 49 nodes";
+        assert(counts.rate(earlier, ListMetrics.Operation.APPEND) > 0): "rate";
+        assert(counted.enableMetrics() == metrics): "same metrics again";
+        counted.clear();
+        assert(metrics.snapshot().depth() == 0): "clear should empty depth";
+        counted.disableMetrics();
+        counted.append(1);
+        assert(metrics.snapshot().calls(ListMetrics.Operation.APPEND) == 100):
+            "disabled metrics should stop counting";
+
+        //Flight Recorder gets one timed event per operation, and none
+        //under the recording's threshold
+        try{
+            for(Duration threshold : new Duration[] {Duration.ZERO,
+                Duration.ofSeconds(10)}){
+                Path file = Files.createTempFile("list", ".jfr");
+                try(Recording recording = new Recording()){
+                    recording.enable(ListOperationEvent.class)
+                        .withThreshold(threshold);
+                    recording.start();
+                    List<Integer> recorded = new List<Integer>();
+                    recorded.setErrorPolicy(ErrorPolicy.SILENT);
+                    recorded.enableMetrics();
+                    recorded.append(1);
+                    recorded.append(2);
+                    recorded.get(0);
+                    recorded.get(7);
+                    recording.stop();
+                    recording.dump(file);
+                }
+
+                int events = 0;
+                for(RecordedEvent event : RecordingFile.readAllEvents(file)){
+                    assert(!event.getDuration().isNegative()
+                        && event.getString("list").equals("List")):
+                        "events should be timed by begin and end";
+                    events++;
+                }
+                Files.delete(file);
+                assert(events == (threshold.isZero() ? 3 : 0)):
+                    "one event per operation that worked, over threshold";
+            }
+        }catch(IOException e){
+            assert(false): "recording to a temp file shouldn't fail";
+        }
+
+        //Sort Tests
+        System.out.println("\n Sort Tests \n");
+        List<Integer> unsorted = new List<Integer>();
+        unsorted.appendAll(Arrays.asList(5, 3, 9, 1, 3, 7));
+        unsorted.sort(Comparator.naturalOrder());
+        System.out.println("sorted: " + unsorted);
+        assert(unsorted.toString().equals("9 7 5 3 3 1 ")): "sorted order";
+        assert(unsorted.get(0) == 1 && unsorted.remove(5) == 9):
+            "index zero should hold the smallest";
+
+        //Sorting by a key should keep equal keys in the order appended
+        for(int size : new int[] {0, 1, 2, 1000, 3 * SORT_THRESHOLD + 7}){
+            List<int[]> pairs = new List<int[]>();
+            ArrayList<int[]> copy = new ArrayList<int[]>();
+            Random keys = new Random(size);
+            for(int step = 0; step < size; step++){
+                int[] pair = {keys.nextInt(50), step};
+                pairs.append(pair);
+                copy.add(pair);
+            }
+            pairs.enableValueIndex();
+            pairs.sort((x, y) -> Integer.compare(x[0], y[0]));
+            copy.sort((x, y) -> Integer.compare(x[0], y[0]));
+
+            int step = 0;
+            for(int[] pair : pairs){
+                assert(pair == copy.get(step++)): "sort should be stable";
+            }
+            assert(step == size && pairs.size() == size): "nothing lost";
+            if(size > 0){
+                assert(pairs.get(size - 1) == copy.get(size - 1)
+                    && pairs.indexOf(copy.get(0)) == 0):
+                    "links and value index should follow the sort";
+            }
+        }
+
+        //A comparator that throws leaves the list as it was
+        List<Object> mixed = new List<Object>();
+        mixed.appendAll(Arrays.asList(3, 1, "two", 4));
+        String order = mixed.toString();
+        try{
+            mixed.sort((x, y) -> ((Integer) x).compareTo((Integer) y));
+            assert(false): "comparing a String should throw";
+        }catch(ClassCastException e){
+            assert(mixed.toString().equals(order)): "links unchanged";
+            assert(mixed.stream().count() == 4 && mixed.get(1) == (Object) 1):
+                "back references should be mended";
+        }
+
+        //An error part way through is mended the same way
+        List<Integer> halfway = new List<Integer>();
+        for(int step = 20; step > 0; step--){
+            halfway.append(step);
+        }
+        String forward = halfway.toString();
+        String backward = halfway.reversed().toString();
+        final int[] compares = {0};
+        try{
+            halfway.sort((x, y) -> {
+                if(++compares[0] == 30){
+                    throw new StackOverflowError();
+                }
+                return x.compareTo(y);
+            });
+            assert(false): "the error should come out of sort";
+        }catch(StackOverflowError e){
+            assert(halfway.toString().equals(forward)
+                && halfway.reversed().toString().equals(backward)):
+                "an error should be mended like an exception";
+        }
+
+        //Same again on the parallel path, with the miss in one half
+        mixed.clear();
+        ArrayList<Object> before = new ArrayList<Object>();
+        for(int step = 0; step < 4 * SORT_THRESHOLD; step++){
+            Object item = step == 3 * SORT_THRESHOLD ? "miss" : -step;
+            mixed.append(item);
+            before.add(item);
+        }
+        try{
+            mixed.sort((x, y) -> ((Integer) x).compareTo((Integer) y));
+            assert(false): "comparing a String should throw";
+        }catch(ClassCastException e){
+            int step = 0;
+            for(Object item : mixed){
+                assert(step < before.size()): "back references loop";
+                assert(item == before.get(step++)): "order unchanged";
+            }
+            assert(step == before.size()): "every item walked";
+            for(step = 0; step < before.size(); step += 97){
+                assert(mixed.get(step) == before.get(step)): "get agrees";
+            }
+            step = before.size();
+            for(Object item : mixed.reversed()){
+                assert(item == before.get(--step)): "links unchanged";
+            }
+        }
+
+        //Cursor Tests
+        System.out.println("\n Cursor Tests \n");
+        List<Integer> edited = new List<Integer>();
+        edited.appendAll(Arrays.asList(1, 2, 3, 4));
+        edited.enableValueIndex();
+        List<Integer>.Cursor cursor = edited.cursor();
+        assert(cursor.next() == 1 && cursor.next() == 2): "next index order";
+        cursor.set(20);
+        cursor.insertBefore(15);
+        cursor.insertAfter(25);
+        assert(cursor.nextIndex() == 3 && cursor.next() == 25):
+            "insertAfter should be next";
+        assert(cursor.next() == 3): "cursor should carry on";
+        cursor.remove();
+        cursor.add(30);
+        System.out.println("after cursor edits: " + edited);
+        assert(edited.toString().equals("4 30 25 20 15 1 ")): "edits";
+        assert(edited.indexOf(30) == 4 && edited.get(4) == 30
+            && edited.size() == 6): "index and links should follow edits";
+        assert(cursor.previous() == 30 && cursor.previous() == 25):
+            "previous should walk back";
+        cursor.remove();
+        assert(cursor.next() == 30 && cursor.previousIndex() == 3):
+            "remove going back leaves cursor in place";
+        try{
+            cursor.remove();
+            cursor.remove();
+            assert(false): "second remove should throw";
+        }catch(IllegalStateException e){
+            assert(edited.toString().equals("4 20 15 1 ")): "one removed";
+        }
+        edited.append(5);
+        try{
+            cursor.next();
+            assert(false): "cursor should fail fast";
+        }catch(ConcurrentModificationException e){
+            System.out.println("Fail fast: " + e);
+        }
+
+        //removeIf takes out matching items in one walk
+        List<Integer> evens = new List<Integer>();
+        List<Integer> odds = new List<Integer>();
+        evens.setNodePoolSize(16);
+        for(int step = 0; step < 100000; step++){
+            evens.append(step);
+            if(step % 2 == 1){
+                odds.append(step);
+            }
+        }
+        assert(evens.removeIf((item) -> item % 2 == 0) == 50000):
+            "half the items should go";
+        assert(evens.toString().equals(odds.toString())): "odds are left";
+        assert(evens.pooled == 16 && evens.get(0) == 1): "pool refilled";
+        assert(evens.removeIf((item) -> true) == 50000 && evens.isEmpty()):
+            "removing everything empties the list";
+        evens.append(7);
+        assert(evens.head == evens.tail && evens.get(0) == 7): "still usable";
+
+        //Value Index Tests
+        System.out.println("\n Value Index Tests \n");
+        List<Integer> indexed = new List<Integer>();
+        List<Integer> scanned = new List<Integer>();
+        indexed.enableValueIndex();
+        Random random = new Random(12);
+        for(int j = 0; j < 20000; j++){
+            int choice = random.nextInt(10);
+            int value = random.nextInt(50);
+            if(choice < 5 || scanned.isEmpty()
+                || (choice == 9 && j % 4 != 0)){
+                indexed.append(value);
+                scanned.append(value);
+            }
+            else if(choice == 5){
+                assert(indexed.remove(0).equals(scanned.remove(0)));
+            }
+            else if(choice == 6){
+                indexed.remove(indexed.size() - 1);
+                scanned.remove(scanned.size() - 1);
+            }
+            else if(choice == 7){
+                int index = random.nextInt(scanned.size());
+                indexed.insert(value, index);
+                scanned.insert(value, index);
+            }
+            else if(choice == 8){
+                int index = random.nextInt(scanned.size());
+                indexed.remove(index);
+                scanned.remove(index);
+            }
+            else{
+                indexed.detachTail(3, new List<Integer>());
+                scanned.detachTail(3, new List<Integer>());
+                indexed.detachHead(2, new List<Integer>());
+                scanned.detachHead(2, new List<Integer>());
+            }
+
+            int target = random.nextInt(55);
+            assert(indexed.indexOf(target) == scanned.indexOf(target)):
+                "indexed indexOf should match a scan";
+            assert(indexed.firstIndexOf(target)
+                == scanned.firstIndexOf(target)): "firstIndexOf should match";
+            assert(indexed.contains(target) == scanned.contains(target)):
+                "contains should match";
+        }
+        System.out.println("Indexed lookups matched " + scanned.size()
+            + " item scan");
+
+        //Middle removals drop one ordinal instead of the whole index
+        List<Integer> holed = new List<Integer>();
+        for(int j = 0; j < 1000; j++){
+            holed.append(j % 100);
+        }
+        holed.enableValueIndex();
+        for(int j = 0; j < 300; j++){
+            int index = random.nextInt(holed.size() - 2) + 1;
+            Integer removed = holed.remove(index);
+            assert(!holed.valueIndex.isStale()): "middle remove keeps index";
+            assert(holed.valueIndex.lastIndexOf(removed)
+                == scanned(holed, removed, false)): "holes skipped";
+            assert(holed.valueIndex.firstIndexOf(removed)
+                == scanned(holed, removed, true)): "holes skipped";
+        }
+        List<Integer>.Cursor editing = holed.cursor();
+        editing.next();
+        editing.set(500);
+        editing.next();
+        editing.insertBefore(600);
+        assert(holed.valueIndex.isStale()): "middle insert goes stale";
+        assert(holed.contains(600) && holed.contains(500)
+            && !holed.contains(700)): "contains follows every change";
+        assert(holed.valueIndex.isStale()): "contains shouldn't rebuild";
+        assert(holed.indexOf(600) == 1 && holed.firstIndexOf(500) == 0):
+            "indexOf should rebuild";
+        holed.removeIf((item) -> item % 2 == 0);
+        holed.sort(Comparator.naturalOrder());
+        assert(holed.contains(99) && !holed.contains(98)): "sort keeps counts";
+        assert(holed.firstIndexOf(1) == 0): "sorted index";
+
+        //Writing Tests
+        System.out.println("\n Writing Tests \n");
+        try{
+            StringBuilder text = new StringBuilder();
+            multiple.writeTo(text);
+            assert(text.toString().equals(multiple.toString())): "same text";
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            big.writeTo(Channels.newChannel(bytes), ElementCodec.INTEGER);
+            bytes.write(42);
+            ReadableByteChannel in = Channels.newChannel(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+            List<Integer> copy = new List<Integer>();
+            assert(copy.readFrom(in, ElementCodec.INTEGER) == 100000):
+                "every item should be read";
+            assert(copy.size() == 100000 && copy.indexOf(99999) == 99999):
+                "items should keep their index";
+            ByteBuffer after = ByteBuffer.allocate(1);
+            assert(in.read(after) == 1 && after.get(0) == 42):
+                "nothing past the list should be read";
+
+            List<String> words = new List<String>();
+            words.appendAll(Arrays.asList("linked", "", "list"));
+            bytes.reset();
+            words.writeTo(Channels.newChannel(bytes), ElementCodec.STRING);
+            List<String> wordCopy = new List<String>();
+            wordCopy.readFrom(Channels.newChannel(new ByteArrayInputStream(
+                bytes.toByteArray())), ElementCodec.STRING);
+            System.out.println(wordCopy.toString());
+            assert(wordCopy.toString().equals(words.toString())): "strings";
+
+            //A bad header is refused, and a failed read adds nothing
+            byte[] written = bytes.toByteArray();
+            for(int bad : new int[]{-1, Integer.MAX_VALUE}){
+                byte[] corrupt = written.clone();
+                ByteBuffer.wrap(corrupt).putInt(4, bad);
+                try{
+                    wordCopy.readFrom(Channels.newChannel(
+                        new ByteArrayInputStream(corrupt)),
+                        ElementCodec.STRING);
+                    assert(false): "bad block length should be refused";
+                }catch(IOException e){
+                    System.out.println("Refused: " + e.getMessage());
+                }
+            }
+            for(int bad : new int[]{-1, Integer.MAX_VALUE}){
+                ByteArrayOutputStream length = new ByteArrayOutputStream();
+                new DataOutputStream(length).writeInt(bad);
+                try{
+                    ElementCodec.STRING.read(new DataInputStream(
+                        new ByteArrayInputStream(length.toByteArray())));
+                    assert(false): "bad string length should be refused";
+                }catch(IOException e){
+                    System.out.println("Refused: " + e.getMessage());
+                }
+            }
+            try{
+                wordCopy.readFrom(Channels.newChannel(new ByteArrayInputStream(
+                    written, 0, written.length - 8)), ElementCodec.STRING);
+                assert(false): "a list cut short should fail";
+            }catch(IOException e){
+                assert(wordCopy.size() == 3): "failed read shouldn't append";
+            }
+        }catch(IOException e){
+            assert(false): "in memory channels shouldn't fail";
+        }
+
+        try{
+            for(int item : a){
+                a.append(item);
+            }
+            assert(false): "appending during a walk should fail fast";
+        }catch(ConcurrentModificationException e){
+            System.out.println("Fail fast: " + e.getClass().getName());
+        }
     }
 }
@@ -0,0 +1,378 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.EventType;
+
+/**
+ * ListMetrics counts what a list does once its metrics are turned on: how
+ * often each kind of operation is called and how long it takes, how many
+ * nodes are walked to find an index or a value, how many operations fail,
+ * and how deep the list is and has been. Each operation also commits a
+ * ListOperationEvent when a Flight Recorder recording has it enabled. The
+ * event is only made once the recording is found to want it, and is timed
+ * with its own begin and end so the recording's threshold applies. An
+ * operation that fails is counted in failures but commits no event.
+ *
+ * A list makes its metrics when enableMetrics is called, and until then
+ * each operation only checks for null. The counters can be read from any
+ * thread with snapshot while the list is in use, so a reporter thread can
+ * poll them. On a Queue an append is an enqueue and a remove a dequeue,
+ * and on a Stack they are a push and a pop.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class ListMetrics
+{
+    /**
+     * Operation is the kind of list operation being counted.
+     */
+    public enum Operation
+    {
+        APPEND, INSERT, REMOVE, GET, INDEX_OF
+    }
+
+    //Traversal buckets, zero nodes and then one per power of two
+    private static final int BUCKETS = 33;
+
+    //Whether any recording wants the event, checked before one is made
+    private static final EventType EVENT =
+        EventType.getEventType(ListOperationEvent.class);
+
+    //Kind of list, e.g. Queue, used in events and toString
+    private final String list;
+
+    //Calls and total nanoseconds of each kind of operation
+    private final LongAdder[] calls = adders(Operation.values().length);
+    private final LongAdder[] nanos = adders(Operation.values().length);
+
+    //Operations of each kind whose walk covered 0, 1, 2-3, 4-7 ... nodes
+    private final LongAdder[][] traversals = histograms();
+
+    //Nodes walked by every operation together
+    private final LongAdder traversed = new LongAdder();
+
+    //Operations that couldn't be done
+    private final LongAdder failures = new LongAdder();
+
+    //Items in the list after its last change, and the most it has held.
+    //Only the list's own thread writes them
+    private volatile int depth;
+    private volatile int maxDepth;
+
+    //Event begun by start for the operation under way, null unless a
+    //recording wants it. Only the list's own thread uses it
+    private ListOperationEvent pending;
+
+    /**
+     * Full argument constructor starts counting for a list of the given
+     * kind and size.
+     *
+     * @param String list kind of list, e.g. Queue
+     * @param int size items in the list now
+     */
+    ListMetrics(String list, int size){
+        this.list = list;
+        this.depth = size;
+        this.maxDepth = size;
+    }
+
+    /**
+     * adders makes an array of counters.
+     *
+     * @param int length number of counters
+     * @return LongAdder[] new counters at zero
+     */
+    private static LongAdder[] adders(int length){
+        LongAdder[] retVal = new LongAdder[length];
+        for(int i = 0; i < length; i++){
+            retVal[i] = new LongAdder();
+        }
+        return retVal;
+    }
+
+    /**
+     * histograms makes an empty traversal histogram for each kind of
+     * operation.
+     *
+     * @return LongAdder[][] buckets of each operation, indexed by ordinal
+     */
+    private static LongAdder[][] histograms(){
+        LongAdder[][] retVal = new LongAdder[Operation.values().length][];
+        for(int i = 0; i < retVal.length; i++){
+            retVal[i] = adders(BUCKETS);
+        }
+        return retVal;
+    }
+
+    /**
+     * start reads the clock at the start of an operation, but only if the
+     * list has metrics, so a list without them doesn't pay for the clock.
+     * When a recording wants the event it is made and begun here too.
+     *
+     * @param ListMetrics metrics of the list, may be null
+     * @return long time the operation started, zero without metrics
+     */
+    static long start(ListMetrics metrics){
+        if(metrics == null){
+            return 0;
+        }
+
+        if(EVENT.isEnabled()){
+            metrics.pending = new ListOperationEvent();
+            metrics.pending.begin();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * record counts one finished operation.
+     *
+     * @param Operation operation kind of operation
+     * @param long start time it started, from start
+     * @param int walked nodes walked to do it
+     * @param int size items in the list afterwards
+     * @return Nothing
+     */
+    void record(Operation operation, long start, int walked, int size){
+        long time = System.nanoTime() - start;
+
+        calls[operation.ordinal()].increment();
+        nanos[operation.ordinal()].add(time);
+        traversals[operation.ordinal()][bucket(walked)].increment();
+        traversed.add(walked);
+        resized(size);
+
+        ListOperationEvent event = pending;
+        if(event != null){
+            pending = null;
+            event.end();
+
+            //Leave the fields unset when it's under the threshold
+            if(event.shouldCommit()){
+                event.list = list;
+                event.operation = operation.name();
+                event.traversed = walked;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * resized notes the size of the list after a change.
+     *
+     * @param int size items in the list now
+     * @return Nothing
+     */
+    void resized(int size){
+        depth = size;
+        if(size > maxDepth){
+            maxDepth = size;
+        }
+    }
+
+    /**
+     * failed counts an operation that couldn't be done.
+     *
+     * @return Nothing
+     */
+    void failed(){
+        failures.increment();
+        pending = null;
+    }
+
+    /**
+     * bucket gives the traversal bucket for a number of nodes walked.
+     *
+     * @param int walked nodes walked
+     * @return int bucket, zero for none and then one per power of two
+     */
+    private static int bucket(int walked){
+        return 32 - Integer.numberOfLeadingZeros(walked);
+    }
+
+    /**
+     * snapshot copies the counters as they are now. It can be called from
+     * any thread.
+     *
+     * @return Snapshot of the counters
+     */
+    public Snapshot snapshot(){
+        return new Snapshot(this);
+    }
+
+    /**
+     * Snapshot is a copy of a list's counters taken at one time. Two
+     * snapshots give the rate of an operation between them.
+     */
+    public static final class Snapshot
+    {
+        private final String list;
+        private final long takenAt;
+        private final long[] calls;
+        private final long[] nanos;
+        private final long[][] traversals;
+        private final long traversed;
+        private final long failures;
+        private final int depth;
+        private final int maxDepth;
+
+        /**
+         * Metrics argument constructor copies every counter.
+         *
+         * @param ListMetrics metrics counters to copy
+         */
+        private Snapshot(ListMetrics metrics){
+            list = metrics.list;
+            takenAt = System.nanoTime();
+            calls = sums(metrics.calls);
+            nanos = sums(metrics.nanos);
+            traversals = new long[metrics.traversals.length][];
+            for(int i = 0; i < traversals.length; i++){
+                traversals[i] = sums(metrics.traversals[i]);
+            }
+            traversed = metrics.traversed.sum();
+            failures = metrics.failures.sum();
+            depth = metrics.depth;
+            maxDepth = metrics.maxDepth;
+        }
+
+        /**
+         * sums reads an array of counters.
+         *
+         * @param LongAdder[] adders counters to read
+         * @return long[] their values
+         */
+        private static long[] sums(LongAdder[] adders){
+            long[] retVal = new long[adders.length];
+            for(int i = 0; i < adders.length; i++){
+                retVal[i] = adders[i].sum();
+            }
+            return retVal;
+        }
+
+        /**
+         * calls gives how many times an operation was done.
+         *
+         * @param Operation operation kind of operation
+         * @return long number of calls
+         */
+        public long calls(Operation operation){
+            return calls[operation.ordinal()];
+        }
+
+        /**
+         * averageNanos gives the mean time an operation took.
+         *
+         * @param Operation operation kind of operation
+         * @return double mean nanoseconds, zero if it was never done
+         */
+        public double averageNanos(Operation operation){
+            long done = calls[operation.ordinal()];
+            return done == 0 ? 0 : (double) nanos[operation.ordinal()] / done;
+        }
+
+        /**
+         * rate gives how many times per second an operation was done
+         * between an earlier snapshot and this one.
+         *
+         * @param Snapshot earlier snapshot of the same list
+         * @param Operation operation kind of operation
+         * @return double calls per second
+         */
+        public double rate(Snapshot earlier, Operation operation){
+            long elapsed = takenAt - earlier.takenAt;
+            long done = calls(operation) - earlier.calls(operation);
+            return elapsed <= 0 ? 0 : done * 1e9 / elapsed;
+        }
+
+        /**
+         * traversalHistogram gives how many operations of one kind walked
+         * 0 nodes, 1 node, 2 to 3, 4 to 7 and so on, one entry per bucket.
+         *
+         * @param Operation operation kind of operation
+         * @return long[] operations in each bucket
+         */
+        public long[] traversalHistogram(Operation operation){
+            return traversals[operation.ordinal()].clone();
+        }
+
+        /**
+         * averageTraversal gives the mean nodes walked per operation.
+         *
+         * @return double mean nodes walked
+         */
+        public double averageTraversal(){
+            long done = 0;
+            for(long next : calls){
+                done += next;
+            }
+            return done == 0 ? 0 : (double) traversed / done;
+        }
+
+        /**
+         * failures gives how many operations couldn't be done.
+         *
+         * @return long number of failures
+         */
+        public long failures(){
+            return failures;
+        }
+
+        /**
+         * depth gives the items in the list when the snapshot was taken.
+         *
+         * @return int size of the list
+         */
+        public int depth(){
+            return depth;
+        }
+
+        /**
+         * maxDepth gives the most items the list has held since its
+         * metrics were turned on.
+         *
+         * @return int high water mark of the list
+         */
+        public int maxDepth(){
+            return maxDepth;
+        }
+
+        /**
+         * toString lists the counters on one line.
+         *
+         * @return String the counters
+         */
+        @Override
+        public String toString(){
+            StringBuilder retVal = new StringBuilder(list);
+
+            for(Operation operation : Operation.values()){
+                retVal.append(' ').append(operation.name().toLowerCase())
+                    .append('=').append(calls(operation));
+            }
+
+            retVal.append(" failures=").append(failures)
+                .append(" depth=").append(depth)
+                .append(" maxDepth=").append(maxDepth);
+
+            //Histograms of the operations that were done, without the
+            //empty buckets off the end
+            for(Operation operation : Operation.values()){
+                long[] histogram = traversals[operation.ordinal()];
+                int used = histogram.length;
+                while(used > 0 && histogram[used - 1] == 0){
+                    used--;
+                }
+
+                if(used > 0){
+                    retVal.append(' ').append(operation.name().toLowerCase())
+                        .append("Walks=").append(Arrays.toString(
+                            Arrays.copyOf(histogram, used)));
+                }
+            }
+
+            return retVal.toString();
+        }
+    }
+}
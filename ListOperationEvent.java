@@ -0,0 +1,35 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ListOperationEvent is the Flight Recorder event a list with metrics
+ * turned on commits for each operation that succeeds. It is only made
+ * while a recording has it enabled, and a list without metrics never
+ * makes one. Its duration is how long the operation took.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+@Name("LinkedList.Operation")
+@Label("List Operation")
+@Category("LinkedList")
+@Description("One operation on a List, Queue or Stack with metrics on")
+public class ListOperationEvent extends Event
+{
+    @Label("List")
+    @Description("Kind of list, e.g. Queue")
+    public String list;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Nodes Traversed")
+    public int traversed;
+
+    @Label("Size")
+    @Description("Items in the list after the operation")
+    public int size;
+}
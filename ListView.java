@@ -0,0 +1,604 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ListView is a lazy view over a List. subList, filter, map and reversed
+ * each make a small view object that remembers what to do and nothing
+ * else: no items are copied and no nodes are made until the view is
+ * walked, and then each item is tested or mapped as it's reached. Views
+ * can be chained, and toList copies a view into a new List only when one
+ * is wanted.
+ *
+ * Views go through the items in index order like the List they're over,
+ * and walk its nodes through the list's own iteration hook, so they fail
+ * fast the same way. A view of the whole list follows the list as it
+ * changes, while a subList is fixed to the range it was made with and
+ * fails fast once a node is linked or unlinked. Sizes of filtered views
+ * are counted by walking them, so a subList past the end of one is only
+ * reported once it's walked.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public abstract class ListView<T> implements Iterable<T>
+{
+    //List under the view, which reports bad ranges with its error policy
+    private final List<?> list;
+
+    /**
+     * List argument constructor makes a view over a list.
+     *
+     * @param List list under the view
+     */
+    ListView(List<?> list){
+        this.list = list;
+    }
+
+    /**
+     * of makes a view of a whole list.
+     *
+     * @param List list to view
+     * @return ListView of every item in the list
+     */
+    static <T> ListView<T> of(List<T> list){
+        return new Whole<T>(list);
+    }
+
+    /**
+     * iterator walks the view either way.
+     *
+     * @param boolean descending true to walk from the last item down
+     * @return Iterator over the view
+     */
+    abstract Iterator<T> iterator(boolean descending);
+
+    /**
+     * iterator walks the view from its first item.
+     *
+     * @return Iterator over the view in order
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return iterator(false);
+    }
+
+    /**
+     * Size will return the number of items in the view. Views that filter
+     * have to be walked to count them.
+     *
+     * @return int number of items in the view
+     */
+    public int size(){
+        int retVal = 0;
+        for(Iterator<T> items = iterator(false); items.hasNext();
+            items.next()){
+            retVal++;
+        }
+        return retVal;
+    }
+
+    /**
+     * knownSize gives the size of the view when it can be had without
+     * walking it, so subList only checks ranges up front when that's free.
+     *
+     * @return int number of items in the view, or -1 if it must be counted
+     */
+    int knownSize(){
+        return -1;
+    }
+
+    /**
+     * isEmpty checks to see if the view has no items, walking only as far
+     * as the first one.
+     *
+     * @return boolean true if view is empty
+     */
+    public boolean isEmpty(){
+        return !iterator(false).hasNext();
+    }
+
+    /**
+     * subList returns a view of the items from one index of this view up
+     * to but not including another. A range past the end of a view whose
+     * size has to be counted isn't found until the view is walked, and is
+     * reported then.
+     *
+     * @param int from first index in the new view
+     * @param int to index after the last one in the new view
+     * @return ListView of the range, empty if the range is invalid
+     * @exception reported by the error policy when range outside of view
+     */
+    public ListView<T> subList(int from, int to){
+        if(from < 0){
+            list.fail("Failed to make view: ", "Index outside of list range -"
+                + " must be greater than zero");
+            return new Sliced<T>(this, 0, 0);
+        }
+
+        int size = knownSize();
+        if(size >= 0 && to > size){
+            list.fail("Failed to make view: ", "Index outside of list range -"
+                + " must be less than size");
+            return new Sliced<T>(this, 0, 0);
+        }
+
+        if(from > to){
+            list.fail("Failed to make view: ", "Range ends before it"
+                + " starts");
+            return new Sliced<T>(this, 0, 0);
+        }
+
+        return slice(from, to);
+    }
+
+    /**
+     * slice makes the view for a range already known to be valid. Views
+     * over list indexes override it to go straight to the nodes.
+     *
+     * @param int from first index in the new view
+     * @param int to index after the last one in the new view
+     * @return ListView of the range
+     */
+    ListView<T> slice(int from, int to){
+        return new Sliced<T>(this, from, to);
+    }
+
+    /**
+     * filter returns a view of the items that pass a test.
+     *
+     * @param Predicate test items must pass
+     * @return ListView of the matching items
+     */
+    public ListView<T> filter(Predicate<? super T> test){
+        return new Filtered<T>(this, test);
+    }
+
+    /**
+     * map returns a view of each item passed through a function.
+     *
+     * @param Function mapper applied to each item
+     * @return ListView of the mapped items
+     */
+    public <R> ListView<R> map(Function<? super T, ? extends R> mapper){
+        return new Mapped<T, R>(this, mapper);
+    }
+
+    /**
+     * reversed returns a view of the items from the last one down.
+     *
+     * @return ListView of the items in reverse order
+     */
+    public ListView<T> reversed(){
+        return new Reversed<T>(this);
+    }
+
+    /**
+     * toList copies the view into a new List, with the first item of the
+     * view at index zero.
+     *
+     * @return List holding the items in the view
+     */
+    public List<T> toList(){
+        List<T> retVal = new List<T>();
+        retVal.appendAll(this);
+        return retVal;
+    }
+
+    /**
+     * stream returns a sequential stream of the items in the view.
+     *
+     * @return Stream of the items in the view
+     */
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * toString will enumerate the view from its last item down and return
+     * it as a string with values separated by white space, like List.
+     *
+     * @return String enumeration of view
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(Iterator<T> items = iterator(true); items.hasNext();){
+            retVal.append(String.valueOf(items.next())).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * Whole views every item of a list, whatever its size is when walked.
+     */
+    private static final class Whole<T> extends ListView<T>
+    {
+        private final List<T> source;
+
+        public Whole(List<T> source){
+            super(source);
+            this.source = source;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            return source.walk(0, source.size(), descending,
+                source.version());
+        }
+
+        @Override
+        public int size(){
+            return source.size();
+        }
+
+        @Override
+        int knownSize(){
+            return source.size();
+        }
+
+        @Override
+        ListView<T> slice(int from, int to){
+            return new Range<T>(source, from, to, source.version());
+        }
+    }
+
+    /**
+     * Range views a fixed run of list indexes, and fails fast once the
+     * list has a node linked or unlinked.
+     */
+    private static final class Range<T> extends ListView<T>
+    {
+        private final List<T> source;
+        private final int from;
+        private final int to;
+        private final int expectedModCount;
+
+        public Range(List<T> source, int from, int to, int expectedModCount){
+            super(source);
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            return source.walk(from, to, descending, expectedModCount);
+        }
+
+        @Override
+        public int size(){
+            return to - from;
+        }
+
+        @Override
+        int knownSize(){
+            return to - from;
+        }
+
+        @Override
+        ListView<T> slice(int from, int to){
+            return new Range<T>(source, this.from + from, this.from + to,
+                expectedModCount);
+        }
+    }
+
+    /**
+     * Sliced views a run of another view's items by skipping up to the
+     * start of the run as it's walked.
+     */
+    private static final class Sliced<T> extends ListView<T>
+    {
+        private final ListView<T> source;
+        private final int from;
+        private final int to;
+
+        public Sliced(ListView<T> source, int from, int to){
+            super(source.list);
+            this.source = source;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            if(from == to){
+                return Collections.emptyIterator();
+            }
+
+            int size = source.knownSize();
+            if(descending && size < 0){
+                //Finding the end of a source that has to be counted would
+                //walk it twice, so walk up through the run once instead
+                ArrayList<T> run = new ArrayList<T>();
+                for(Iterator<T> items = iterator(false); items.hasNext();){
+                    run.add(items.next());
+                }
+                Collections.reverse(run);
+                return run.iterator();
+            }
+
+            //Walking down starts the run from the end of the source
+            int skip = from;
+            if(descending){
+                skip = size - to;
+                if(skip < 0){
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final Iterator<T> items = source.iterator(descending);
+            for(int i = 0; i < skip && items.hasNext(); i++){
+                items.next();
+            }
+
+            return new Iterator<T>(){
+                private int remaining = to - from;
+
+                @Override
+                public boolean hasNext(){
+                    if(remaining > 0 && !items.hasNext()){
+                        //The source ran out before the run did
+                        remaining = 0;
+                        source.list.fail("Failed to walk view: ", "Index"
+                            + " outside of list range - must be less than"
+                            + " size");
+                    }
+                    return remaining > 0;
+                }
+
+                @Override
+                public T next(){
+                    if(!hasNext()){
+                        throw new NoSuchElementException();
+                    }
+                    remaining--;
+                    return items.next();
+                }
+            };
+        }
+
+        @Override
+        int knownSize(){
+            return source.knownSize() < 0 ? -1 : to - from;
+        }
+    }
+
+    /**
+     * Filtered views the items of another view that pass a test, looking
+     * one matching item ahead as it's walked.
+     */
+    private static final class Filtered<T> extends ListView<T>
+    {
+        private final ListView<T> source;
+        private final Predicate<? super T> test;
+
+        public Filtered(ListView<T> source, Predicate<? super T> test){
+            super(source.list);
+            this.source = source;
+            this.test = test;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            final Iterator<T> items = source.iterator(descending);
+
+            return new Iterator<T>(){
+                private T next;
+                private boolean found = false;
+
+                @Override
+                public boolean hasNext(){
+                    while(!found && items.hasNext()){
+                        T item = items.next();
+                        if(test.test(item)){
+                            next = item;
+                            found = true;
+                        }
+                    }
+                    return found;
+                }
+
+                @Override
+                public T next(){
+                    if(!hasNext()){
+                        throw new NoSuchElementException();
+                    }
+
+                    T retVal = next;
+                    next = null;
+                    found = false;
+                    return retVal;
+                }
+            };
+        }
+    }
+
+    /**
+     * Mapped views another view's items passed through a function as
+     * they're walked.
+     */
+    private static final class Mapped<S, T> extends ListView<T>
+    {
+        private final ListView<S> source;
+        private final Function<? super S, ? extends T> mapper;
+
+        public Mapped(ListView<S> source,
+            Function<? super S, ? extends T> mapper){
+            super(source.list);
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            final Iterator<S> items = source.iterator(descending);
+
+            return new Iterator<T>(){
+                @Override
+                public boolean hasNext(){
+                    return items.hasNext();
+                }
+
+                @Override
+                public T next(){
+                    return mapper.apply(items.next());
+                }
+            };
+        }
+
+        @Override
+        public int size(){
+            return source.size();
+        }
+
+        @Override
+        int knownSize(){
+            return source.knownSize();
+        }
+    }
+
+    /**
+     * Reversed views another view walked the other way.
+     */
+    private static final class Reversed<T> extends ListView<T>
+    {
+        private final ListView<T> source;
+
+        public Reversed(ListView<T> source){
+            super(source.list);
+            this.source = source;
+        }
+
+        @Override
+        Iterator<T> iterator(boolean descending){
+            return source.iterator(!descending);
+        }
+
+        @Override
+        public int size(){
+            return source.size();
+        }
+
+        @Override
+        int knownSize(){
+            return source.knownSize();
+        }
+
+        @Override
+        public ListView<T> reversed(){
+            return source;
+        }
+    }
+
+    public static void main(String[] args){
+        List<Integer> a = new List<Integer>();
+        for(int i = 0; i < 10; i++){
+            a.append(i);
+        }
+
+        //View Tests
+        System.out.println("\n View Tests \n");
+        ListView<Integer> middle = a.subList(2, 5);
+        System.out.println("subList(2, 5): " + middle);
+        assert(middle.size() == 3 && middle.toString().equals("4 3 2 ")):
+            "subList should print like a List";
+        assert(middle.toList().toString().equals("4 3 2 ")):
+            "toList should keep the order";
+        assert(middle.subList(1, 3).toList().get(0) == 3): "nested subList";
+        int expected = 9;
+        for(int item : a.reversed()){
+            assert(item == expected--): "reversed should walk down";
+        }
+        assert(a.reversed().reversed().iterator().next() == 0):
+            "reversing twice gives the list back";
+
+        ListView<Integer> evens = a.filter((item) -> item % 2 == 0);
+        assert(evens.size() == 5 && evens.toString().equals("8 6 4 2 0 ")):
+            "filter should keep the evens";
+        ListView<String> chained = a.filter((item) -> item > 3)
+            .map((item) -> "#" + item).reversed().subList(1, 3);
+        System.out.println("chained: " + chained);
+        assert(chained.toString().equals("#7 #8 ")): "views should chain";
+        assert(evens.reversed().subList(0, 2).toList().get(1) == 6):
+            "slice of reversed filter";
+        assert(a.stream().count() == 10 && middle.stream().mapToInt(
+            Integer::intValue).sum() == 9): "views should stream";
+
+        //Nothing runs until the view is walked
+        final int[] calls = {0};
+        ListView<Integer> doubled = a.map((item) -> {
+            calls[0]++;
+            return item * 2;
+        });
+        assert(calls[0] == 0): "map should be lazy";
+        assert(doubled.iterator().next() == 0 && calls[0] == 1):
+            "map should run once per item reached";
+        assert(doubled.size() == 10 && calls[0] == 1): "size without mapping";
+
+        //A whole list view follows the list, a subList fails fast
+        a.append(10);
+        assert(evens.size() == 6): "whole list views follow changes";
+        try{
+            middle.iterator();
+            assert(false): "subList should fail fast after a change";
+        }catch(ConcurrentModificationException e){
+            System.out.println("Fail fast: " + e);
+        }
+        Iterator<Integer> walking = a.reversed().iterator();
+        walking.next();
+        a.remove(0);
+        try{
+            walking.next();
+            assert(false): "view iterator should fail fast";
+        }catch(ConcurrentModificationException e){
+            System.out.println("Fail fast: " + e);
+        }
+
+        //Bad ranges are reported and give an empty view
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.subList(-1, 2).isEmpty()): "negative from";
+        assert(a.subList(3, 2).isEmpty()): "backwards range";
+        final int[] tests = {0};
+        ListView<Integer> counted = a.filter((item) -> {
+            tests[0]++;
+            return item % 2 == 0;
+        });
+        ListView<Integer> pastEnd = counted.subList(2, 20);
+        assert(tests[0] == 0): "subList of a filter shouldn't walk it";
+        assert(pastEnd.toString().equals("10 8 6 ") && tests[0] == 10):
+            "past the end of a filter ends with the filter, walking it once";
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            pastEnd.toList();
+            assert(false): "a short range should be reported when walked";
+        }catch(LinkedListException e){
+            assert(e.getMessage().endsWith("must be less than size")):
+                "message should say why";
+        }
+        try{
+            a.subList(0, 20);
+            assert(false): "THROW policy should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().endsWith("must be less than size")):
+                "message should say why";
+        }
+
+        //Views of a Queue are in dequeue order
+        Queue<Integer> queue = new Queue<Integer>();
+        for(int i = 1; i <= 5; i++){
+            queue.enqueue(i);
+        }
+        assert(queue.subList(0, 2).iterator().next() == 1): "queue order";
+        assert(queue.size() == 5): "views shouldn't take from the queue";
+    }
+}
@@ -0,0 +1,428 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * LongList is a version of our list that stores long values directly instead of
+ * boxing them into objects. It behaves the same as List: index zero is
+ * the first item appended and append adds at the other end.
+ * 
+ * Rather than a node object per item the links are kept in arrays. Each
+ * item lives in a slot: data holds its value, link holds the slot of the
+ * previous item and back holds the slot of the next one. Slots freed by a
+ * removal are chained together and reused by later appends, so once the
+ * arrays have grown to fit the list no further memory is allocated.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class LongList
+{
+    //Marks the absence of a slot, like null does for a node reference
+    private static final int NONE = -1;
+
+    //Number of slots made by the no argument constructor
+    private static final int DEFAULT_CAPACITY = 16;
+
+    //Value held in each slot
+    private long[] data;
+
+    //Slot of the previous item, or the next free slot for unused slots
+    private int[] link;
+
+    //Slot of the item appended after this one
+    private int[] back;
+
+    //Slot of the last item appended, the head of the list
+    private int head = NONE;
+
+    //Slot of the first item appended, the tail at index zero
+    private int tail = NONE;
+
+    //Number of items in the list
+    private int count = 0;
+
+    //First slot in the chain of freed slots
+    private int free = NONE;
+
+    //Slots handed out so far, slots from here on have never been used
+    private int used = 0;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    /**
+     * No argument constructor creates an empty list with room for a few
+     * items before the arrays need to grow.
+     */
+    public LongList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Capacity argument constructor creates an empty list with room for
+     * the given number of items before the arrays need to grow.
+     * 
+     * @param int capacity number of slots to start with
+     */
+    public LongList(int capacity){
+        capacity = Math.max(1, capacity);
+        data = new long[capacity];
+        link = new int[capacity];
+        back = new int[capacity];
+    }
+
+    /**
+     * Append will add a value to the end of the list. The new slot links
+     * to the previous head and becomes the head.
+     * 
+     * @param long next value to be added
+     * @return Nothing
+     */
+    public void append(long next){
+        int slot = allocate();
+
+        data[slot] = next;
+        link[slot] = head;
+        back[slot] = NONE;
+
+        if(head == NONE){
+            //first item is both ends of the list
+            tail = slot;
+        }else{
+            back[head] = slot;
+        }
+
+        head = slot;
+        count++;
+    }
+
+    /**
+     * allocate takes a slot off the free chain, or the next never used
+     * slot if none have been freed. The arrays double when they're full.
+     * 
+     * @return int slot ready to be filled
+     */
+    private int allocate(){
+        if(free != NONE){
+            int slot = free;
+            free = link[slot];
+            return slot;
+        }
+
+        if(used == data.length){
+            int capacity = data.length * 2;
+            data = Arrays.copyOf(data, capacity);
+            link = Arrays.copyOf(link, capacity);
+            back = Arrays.copyOf(back, capacity);
+        }
+
+        return used++;
+    }
+
+    /**
+     * Size will return the number of items in the list.
+     * 
+     * @return int size is the number of values in the list
+     */
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the count.
+     * 
+     * @return boolean true if list is empty
+     */
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * insert will put a value at a specified index position as long as
+     * it's valid. If the list is empty or the index is the size the value
+     * is appended, otherwise the value at the index is changed.
+     * 
+     * @param long next value to be added at index
+     * @param int index where the value should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    public void insert(long next, int index){
+        //check index
+        if(!insideRange(index, "Failed to insert value: ")){
+            return;
+        }
+
+        if(count == 0 || index == count){
+            //empty list or index chosen to be new head so append
+            append(next);
+        }
+        else{
+            data[slotAt(index)] = next;
+        }
+    }
+
+    /**
+     * Delete will delete the value at a given index without returning it.
+     * 
+     * @param int index of value to be deleted
+     * @return Nothing
+     */
+    public void delete(int index){
+        //check index range
+        if(!insideRange(index, "Failed to delete value: ")){
+            return;
+        }
+
+        if(count == 0){
+            fail("Failed to delete value: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            fail("Failed to delete value: ", "Outside of list range");
+        }
+        else{
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     * 
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will take the value at a specified index out of the list and
+     * return it. There is no null for a primitive, so zero is returned
+     * when the index isn't valid.
+     * 
+     * @param int index of value to remove
+     * @return long value at specified index, zero if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public long remove(int index){
+        //check index range
+        if(!insideRange(index, "Failed to remove value: ")){
+            return 0;
+        }
+
+        if(count == 0){
+            fail("Failed to remove value: ", "Can't remove from empty " +
+                " list");
+            return 0;
+        }
+        else if(index == count){
+            fail("Failed to remove value: ", "Outside of list range");
+            return 0;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     * 
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * getErrorPolicy returns what the list does when an operation can't
+     * be done.
+     * 
+     * @return ErrorPolicy policy in use
+     */
+    public ErrorPolicy getErrorPolicy(){
+        return errorPolicy;
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to. Nothing is built unless the policy needs it.
+     * 
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * slotAt will walk the links from whichever end of the list is closer
+     * until it reaches the slot at the given index.
+     * 
+     * @param int index of slot to find
+     * @return int slot at the specified index
+     */
+    private int slotAt(int index){
+        int position;
+
+        if(index < count / 2){
+            position = tail;
+            for(int i = 0; i < index; i++){
+                position = back[position];
+            }
+        }else{
+            position = head;
+            for(int i = count - 1; i > index; i--){
+                position = link[position];
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * shiftList will unlink the slot at a specified index by joining the
+     * slots on either side of it, then put the slot on the free chain.
+     * 
+     * @param int index of slot to shift from
+     * @return long value of the removed slot
+     */
+    private long shiftList(int index){
+        int removed = slotAt(index);
+        int previous = link[removed];
+        int after = back[removed];
+
+        if(after == NONE){
+            head = previous;
+        }else{
+            link[after] = previous;
+        }
+
+        if(previous == NONE){
+            tail = after;
+        }else{
+            back[previous] = after;
+        }
+
+        //Slot can be handed out again by a later append
+        link[removed] = free;
+        free = removed;
+
+        count--;
+        return data[removed];
+    }
+
+    /**
+     * toString will enumerate the list from the head and return it as a
+     * string with values separated by white space.
+     * 
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(int position = head; position != NONE;
+            position = link[position]){
+            retVal.append(data[position]).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * indexOf will find the highest index holding the target value.
+     * 
+     * @param long target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    public int indexOf(long target){
+        int position = head;
+
+        for(int i = count - 1; i >= 0; i--){
+            if(data[position] == target){
+                return i;
+            }
+            position = link[position];
+        }
+
+        return -1;
+    }
+
+    public static void main(String[] args){
+        LongList a = new LongList(2);
+
+        //Size, Append, Insert Tests
+        System.out.println("\n Size/Removal/Insert Tests \n");
+        assert(a.size() == 0): "Size should be zero";
+        assert(a.isEmpty()): "List should be empty";
+
+        a.append(1);
+        a.insert(2, 1);
+        a.insert(1, -1);
+        assert(a.size() == 2): "Insert OOB: Size shouldn't change.";
+        a.append(3);
+        a.append(4);
+        a.insert(40, 3);
+        assert(a.size() == 4): "Size should be 4";
+        System.out.println(a.toString());
+
+        //Removal Tests
+        System.out.println("\n Removal Tests \n");
+        assert(a.remove(3) == 40): "Index 3 should equal 40";
+        assert(a.remove(0) == 1): "Index 0 should equal 1";
+        assert(a.remove(-1) == 0): "Removal should return zero";
+        assert(a.size() == 2): "Size should be 2";
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.remove(5) == 0 && a.size() == 2): "SILENT should carry on";
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            a.delete(2);
+            assert(false): "THROW policy should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Outside of list range")):
+                "message should say why";
+        }
+        a.setErrorPolicy(ErrorPolicy.LOG);
+        a.delete(1);
+        a.delete(0);
+        assert(a.isEmpty()): "List should be empty";
+
+        //Freed slots should be reused before the arrays grow
+        for(int j = 0; j < 10; j++){
+            a.append(j);
+        }
+        int capacity = a.data.length;
+        for(int j = 0; j < 1000; j++){
+            a.append(a.remove(0));
+        }
+        assert(a.data.length == capacity): "Slots should be reused";
+        System.out.println(a.toString());
+
+        //indexOf Tests
+        System.out.println("\n indexOf Tests \n");
+        a.append(100000);
+        assert(a.indexOf(-4) == -1): "index of not found should be -1";
+        assert(a.indexOf(0) == 0): "index of 0 should be 0";
+        assert(a.indexOf(9) == 9): "index of 9 should be 9";
+        assert(a.indexOf(100000) == 10): "index of 100000 should be 10";
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * LongQueue is the queue version of LongList. The first value in is the first value
+ * out, and values are stored without being boxed into objects.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class LongQueue extends LongList
+{
+    /**
+     * No argument constructor creates a new empty queue.
+     */
+    public LongQueue(){
+        super();
+    }
+
+    /**
+     * Capacity argument constructor creates a new empty queue with room
+     * for the given number of values before it needs to grow.
+     * 
+     * @param int capacity number of values to start with
+     */
+    public LongQueue(int capacity){
+        super(capacity);
+    }
+
+    /**
+     * enqueue will add a value to the head of the queue
+     * 
+     * @param long value to be added to queue
+     */
+    public void enqueue(long next){
+        this.append(next);
+    }
+
+    /**
+     * dequeue will return the value at the tail of the queue. Also known
+     * as the first value enqueued. Zero is returned for an empty queue.
+     * 
+     * @return long at tail of list, zero if the queue is empty
+     */
+    public long dequeue(){
+        //If empty report it
+        if(this.isEmpty()){
+            fail("Dequeue Failed: ", "empty queue");
+            return 0;
+        }
+
+        return super.remove(0);
+    }
+
+    /**
+     * Override the insert method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param long value to be added
+     * @param int of index
+     */
+    @Override
+    public void insert(long a, int n){
+        enqueue(a);
+    }
+
+    /**
+     * Override the remove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return long
+     */
+    @Override
+    public long remove(int index){
+        return dequeue();
+    }
+
+    /**
+     * Override delete method because it would compromise the queue data
+     * structure.
+     * 
+     * @int index
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void delete(int index){
+        fail("", "Delete not usable in queue");
+    }
+
+    public static void main(String[] args){
+        LongQueue a = new LongQueue();
+
+        a.enqueue(10);
+        a.enqueue(20);
+        a.insert(30, 7);
+        System.out.println("a after en: " + a.toString());
+
+        assert(a.size() == 3): "size should be 3";
+        assert(a.dequeue() == 10): "first in should be 10";
+        assert(a.remove(5) == 20): "next should be 20";
+        assert(a.dequeue() == 30): "next should be 30";
+        assert(a.isEmpty()): "a should be empty";
+        assert(a.dequeue() == 0): "empty dequeue should be zero";
+
+        a.delete(1);
+    }
+}
@@ -0,0 +1,757 @@
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * OffHeapList is a version of our list that keeps its items and links in
+ * native memory instead of in node objects. It behaves the same as List:
+ * index zero is the first item appended and append adds at the other end.
+ *
+ * Every item is encoded into a record of the same size by a RecordCodec
+ * and stored in a slot. A slot holds the slot of the previous item, the
+ * slot of the next item and then the record, so the garbage collector
+ * only ever sees the few slab buffers and not the items themselves. Slots
+ * are handed out from direct buffers of a fixed number of slots each, and
+ * slots freed by a removal are chained together and reused like IntList
+ * does, so the memory a list uses is its slab count times the slab size
+ * and is never more than one slab past what its largest size needed.
+ *
+ * close frees the native memory straight away, through the JDK's
+ * Unsafe.invokeCleaner where the JDK has it, and the list can't be used
+ * after that. On a JDK without it, or for a list that is only dropped,
+ * the memory is given back whenever the buffers are collected. Codecs are
+ * handed the slab buffers to read and write, so they must not keep them.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class OffHeapList<T> implements AutoCloseable
+{
+    //Marks the absence of a slot, like null does for a node reference
+    private static final int NONE = -1;
+
+    //Bytes at the start of each slot for the link and back slots
+    private static final int LINKS = 2 * Integer.BYTES;
+
+    //Slots in each slab made by the codec only constructor
+    private static final int DEFAULT_SLAB_SLOTS = 1 << 12;
+
+    //Unsafe and its invokeCleaner method, which frees a direct buffer at
+    //once. They aren't public API so they're looked up by reflection, and
+    //are null where the JDK doesn't have them
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static{
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try{
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        }catch(ReflectiveOperationException | RuntimeException e){
+            //Left to the garbage collector
+            unsafe = null;
+            invokeCleaner = null;
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    //Turns items into records and back
+    private final RecordCodec<T> codec;
+
+    //Bytes from the start of one slot to the start of the next
+    private final int stride;
+
+    //A slot's slab is its number shifted down, its place in the slab is
+    //its number masked
+    private final int shift;
+    private final int mask;
+
+    //Direct buffers holding the slots, null once the list is closed
+    private ByteBuffer[] slabs = new ByteBuffer[1];
+
+    //Number of slabs made so far
+    private int slabCount = 0;
+
+    //Slot of the last item appended, the head of the list
+    private int head = NONE;
+
+    //Slot of the first item appended, the tail at index zero
+    private int tail = NONE;
+
+    //Number of items in the list
+    private int count = 0;
+
+    //First slot in the chain of freed slots
+    private int free = NONE;
+
+    //Slots handed out so far, slots from here on have never been used
+    private int used = 0;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    /**
+     * Codec argument constructor creates an empty list of records with
+     * slabs of a few thousand slots.
+     *
+     * @param RecordCodec codec turns items into records and back
+     */
+    public OffHeapList(RecordCodec<T> codec){
+        this(codec, DEFAULT_SLAB_SLOTS);
+    }
+
+    /**
+     * Full argument constructor creates an empty list of records with
+     * slabs of at least the given number of slots, rounded up to a power
+     * of two. No native memory is taken until the first append.
+     *
+     * @param RecordCodec codec turns items into records and back
+     * @param int slabSlots slots in each slab of native memory
+     */
+    public OffHeapList(RecordCodec<T> codec, int slabSlots){
+        this.codec = Objects.requireNonNull(codec);
+        this.stride = LINKS + codec.size();
+
+        int slots = Integer.highestOneBit(Math.max(1, slabSlots));
+        if(slots < slabSlots){
+            slots <<= 1;
+        }
+
+        //A slab must fit in one buffer
+        while((long) slots * stride > Integer.MAX_VALUE){
+            slots >>= 1;
+        }
+
+        shift = Integer.numberOfTrailingZeros(slots);
+        mask = slots - 1;
+    }
+
+    /**
+     * Append will add an item to the end of the list. The new slot links
+     * to the previous head and becomes the head.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     */
+    public void append(T next){
+        int slot = allocate();
+
+        try{
+            setData(slot, next);
+        }catch(RuntimeException e){
+            //The codec refused the item, so give the slot back
+            setLink(slot, free);
+            free = slot;
+            throw e;
+        }
+
+        setLink(slot, head);
+        setBack(slot, NONE);
+
+        if(head == NONE){
+            //first item is both ends of the list
+            tail = slot;
+        }else{
+            setBack(head, slot);
+        }
+
+        head = slot;
+        count++;
+    }
+
+    /**
+     * allocate takes a slot off the free chain, or the next never used
+     * slot if none have been freed. A new slab is made when the last one
+     * is full, and the slabs already made are never copied.
+     *
+     * @return int slot ready to be filled
+     */
+    private int allocate(){
+        ByteBuffer[] current = open();
+
+        if(free != NONE){
+            int slot = free;
+            free = linkOf(slot);
+            return slot;
+        }
+
+        if(used == slabCount << shift){
+            if(slabCount == current.length){
+                slabs = current = Arrays.copyOf(current, slabCount * 2);
+            }
+            current[slabCount++] = ByteBuffer.allocateDirect(
+                (mask + 1) * stride);
+        }
+
+        return used++;
+    }
+
+    /**
+     * open returns the slabs of a list that hasn't been closed.
+     *
+     * @return ByteBuffer[] slabs holding the slots
+     * @throws IllegalStateException if the list was closed
+     */
+    private ByteBuffer[] open(){
+        if(slabs == null){
+            throw new IllegalStateException("List is closed");
+        }
+        return slabs;
+    }
+
+    /**
+     * linkOf reads the slot of the item before a slot.
+     *
+     * @param int slot to read from
+     * @return int slot of the previous item
+     */
+    private int linkOf(int slot){
+        return slabs[slot >>> shift].getInt((slot & mask) * stride);
+    }
+
+    /**
+     * backOf reads the slot of the item after a slot.
+     *
+     * @param int slot to read from
+     * @return int slot of the next item
+     */
+    private int backOf(int slot){
+        return slabs[slot >>> shift].getInt((slot & mask) * stride
+            + Integer.BYTES);
+    }
+
+    /**
+     * dataOf decodes the record in a slot.
+     *
+     * @param int slot to read from
+     * @return T item held in the slot
+     */
+    private T dataOf(int slot){
+        return codec.read(slabs[slot >>> shift],
+            (slot & mask) * stride + LINKS);
+    }
+
+    /**
+     * setLink stores the slot of the item before a slot.
+     *
+     * @param int slot to change
+     * @param int link slot of the previous item
+     * @return Nothing
+     */
+    private void setLink(int slot, int link){
+        slabs[slot >>> shift].putInt((slot & mask) * stride, link);
+    }
+
+    /**
+     * setBack stores the slot of the item after a slot.
+     *
+     * @param int slot to change
+     * @param int back slot of the next item
+     * @return Nothing
+     */
+    private void setBack(int slot, int back){
+        slabs[slot >>> shift].putInt((slot & mask) * stride
+            + Integer.BYTES, back);
+    }
+
+    /**
+     * setData encodes an item into the record of a slot.
+     *
+     * @param int slot to change
+     * @param T value item to store
+     * @return Nothing
+     */
+    private void setData(int slot, T value){
+        codec.write(value, slabs[slot >>> shift],
+            (slot & mask) * stride + LINKS);
+    }
+
+    /**
+     * Size will return the number of items in the list.
+     *
+     * @return int size is the number of items in the list
+     */
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the count.
+     *
+     * @return boolean true if list is empty
+     */
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * memoryUsed gives the bytes of native memory the list holds. It only
+     * grows a slab at a time and stays the same as items come and go.
+     *
+     * @return long bytes of native memory held
+     */
+    public long memoryUsed(){
+        return (long) slabCount * (mask + 1) * stride;
+    }
+
+    /**
+     * insert will put an item at a specified index position as long as
+     * it's valid. If the list is empty or the index is the size the item
+     * is appended, otherwise the record at the index is overwritten.
+     *
+     * @param T next item to be added at index
+     * @param int index where the item should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    public void insert(T next, int index){
+        open();
+
+        //check index
+        if(!insideRange(index, "Failed to insert object: ")){
+            return;
+        }
+
+        if(count == 0 || index == count){
+            //empty list or index chosen to be new head so append
+            append(next);
+        }
+        else{
+            setData(slotAt(index), next);
+        }
+    }
+
+    /**
+     * Delete will delete the item at a given index without returning it.
+     *
+     * @param int index of item to be deleted
+     * @return Nothing
+     */
+    public void delete(int index){
+        open();
+
+        //check index range
+        if(!insideRange(index, "Failed to delete node: ")){
+            return;
+        }
+
+        if(count == 0){
+            fail("Failed to delete node: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            fail("Failed to delete node: ", "Outside of list range");
+        }
+        else{
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     *
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will take the item at a specified index out of the list and
+     * return it. Its slot goes on the free chain for the next append.
+     *
+     * @param int index of item to remove
+     * @return T item at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public T remove(int index){
+        open();
+
+        //check index range
+        if(!insideRange(index, "Failed to remove node: ")){
+            return null;
+        }
+
+        if(count == 0){
+            fail("Failed to remove node: ", "Can't remove from empty " +
+                " list");
+            return null;
+        }
+        else if(index == count){
+            fail("Failed to remove node: ", "Outside of list range");
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * tryRemove will take the item at a specified index like remove does,
+     * but never reports an invalid index whatever the error policy is.
+     *
+     * @param int index of item to remove
+     * @return T item at specified index, null if index is invalid
+     */
+    public T tryRemove(int index){
+        open();
+
+        if(index < 0 || index >= count){
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * get will return the item at a specified index without changing the
+     * list. The slot is found by walking from whichever end is closer.
+     *
+     * @param int index of item to read
+     * @return T item at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public T get(int index){
+        open();
+
+        //check index range
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == count){
+            fail("Failed to get node: ", "Outside of list range");
+            return null;
+        }
+
+        return dataOf(slotAt(index));
+    }
+
+    /**
+     * slotAt will walk the links from whichever end of the list is closer
+     * until it reaches the slot at the given index.
+     *
+     * @param int index of slot to find
+     * @return int slot at the specified index
+     */
+    private int slotAt(int index){
+        int position;
+
+        if(index < count / 2){
+            position = tail;
+            for(int i = 0; i < index; i++){
+                position = backOf(position);
+            }
+        }else{
+            position = head;
+            for(int i = count - 1; i > index; i--){
+                position = linkOf(position);
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * shiftList will unlink the slot at a specified index by joining the
+     * slots on either side of it, then put the slot on the free chain.
+     *
+     * @param int index of slot to shift from
+     * @return T item that was in the removed slot
+     */
+    private T shiftList(int index){
+        int removed = slotAt(index);
+        int previous = linkOf(removed);
+        int after = backOf(removed);
+        T retVal = dataOf(removed);
+
+        if(after == NONE){
+            head = previous;
+        }else{
+            setLink(after, previous);
+        }
+
+        if(previous == NONE){
+            tail = after;
+        }else{
+            setBack(previous, after);
+        }
+
+        //Slot can be handed out again by a later append
+        setLink(removed, free);
+        free = removed;
+
+        count--;
+        return retVal;
+    }
+
+    /**
+     * clear will empty the list. Its slabs are kept and filled again from
+     * the start by later appends.
+     *
+     * @return Nothing
+     */
+    public void clear(){
+        open();
+        head = NONE;
+        tail = NONE;
+        count = 0;
+        free = NONE;
+        used = 0;
+    }
+
+    /**
+     * close frees the native memory. Any use of the list afterwards throws
+     * an IllegalStateException. Closing twice does nothing.
+     *
+     * @return Nothing
+     */
+    @Override
+    public void close(){
+        if(slabs != null){
+            ByteBuffer[] freed = slabs;
+            int freedCount = slabCount;
+
+            //Nothing can reach the slabs once they're dropped here
+            slabs = null;
+            for(int i = 0; i < freedCount; i++){
+                free(freed[i]);
+                freed[i] = null;
+            }
+
+            slabCount = 0;
+            head = NONE;
+            tail = NONE;
+            count = 0;
+            free = NONE;
+            used = 0;
+        }
+    }
+
+    /**
+     * free gives a slab's native memory back at once if the JDK allows it,
+     * and otherwise leaves it to the garbage collector.
+     *
+     * @param ByteBuffer slab direct buffer nothing else will use again
+     * @return Nothing
+     */
+    private static void free(ByteBuffer slab){
+        if(INVOKE_CLEANER == null){
+            return;
+        }
+
+        try{
+            INVOKE_CLEANER.invoke(UNSAFE, slab);
+        }catch(ReflectiveOperationException | RuntimeException e){
+            //Left to the garbage collector
+            return;
+        }
+    }
+
+    /**
+     * directMemory gives the bytes held by every direct buffer in the JVM.
+     *
+     * @return long bytes of direct buffer memory in use
+     */
+    private static long directMemory(){
+        for(BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(
+            BufferPoolMXBean.class)){
+            if(pool.getName().equals("direct")){
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to.
+     *
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * toString will enumerate the list from the head and return it as a
+     * string with items separated by white space.
+     *
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        if(slabs == null){
+            return "";
+        }
+
+        StringBuilder retVal = new StringBuilder();
+
+        for(int position = head; position != NONE;
+            position = linkOf(position)){
+            retVal.append(dataOf(position)).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * indexOf will find the highest index holding the target item. Each
+     * record is decoded to compare it, so codecs that make new objects
+     * make one per record looked at.
+     *
+     * @param T target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    public int indexOf(T target){
+        open();
+        int position = head;
+
+        for(int i = count - 1; i >= 0; i--){
+            if(Objects.equals(dataOf(position), target)){
+                return i;
+            }
+            position = linkOf(position);
+        }
+
+        return -1;
+    }
+
+    public static void main(String[] args){
+        OffHeapList<Integer> a = new OffHeapList<Integer>(
+            RecordCodec.INTEGER, 4);
+
+        //Size, Append, Insert Tests
+        System.out.println("\n Size/Removal/Insert Tests \n");
+        assert(a.size() == 0): "Size should be zero";
+        assert(a.isEmpty()): "List should be empty";
+        assert(a.memoryUsed() == 0): "No memory until the first append";
+
+        a.append(1);
+        a.insert(2, 1);
+        a.insert(1, -1);
+        assert(a.size() == 2): "Insert OOB: Size shouldn't change.";
+        a.append(3);
+        a.append(4);
+        a.insert(40, 3);
+        assert(a.size() == 4): "Size should be 4";
+        assert(a.get(2) == 3 && a.get(4) == null): "get should read index";
+        System.out.println(a.toString());
+
+        //Removal Tests
+        System.out.println("\n Removal Tests \n");
+        assert(a.remove(3) == 40): "Index 3 should equal 40";
+        assert(a.remove(0) == 1): "Index 0 should equal 1";
+        assert(a.remove(-1) == null): "Removal should return null";
+        assert(a.tryRemove(5) == null): "tryRemove should miss quietly";
+        assert(a.size() == 2): "Size should be 2";
+        a.delete(1);
+        a.delete(0);
+        assert(a.isEmpty()): "List should be empty";
+
+        //Freed slots should be reused before another slab is made
+        for(int j = 0; j < 10; j++){
+            a.append(j);
+        }
+        long memory = a.memoryUsed();
+        assert(memory == 3 * 4 * (LINKS + Integer.BYTES)): "3 slabs of 4";
+        for(int j = 0; j < 1000; j++){
+            a.append(a.remove(0));
+        }
+        assert(a.memoryUsed() == memory): "Slots should be reused";
+        System.out.println(a.toString());
+
+        //indexOf Tests
+        System.out.println("\n indexOf Tests \n");
+        a.append(100000);
+        assert(a.indexOf(-4) == -1): "index of not found should be -1";
+        assert(a.indexOf(0) == 0): "index of 0 should be 0";
+        assert(a.indexOf(9) == 9): "index of 9 should be 9";
+        assert(a.indexOf(100000) == 10): "index of 100000 should be 10";
+
+        //Records and lifecycle
+        try(OffHeapList<byte[]> records = new OffHeapList<byte[]>(
+            RecordCodec.bytes(3))){
+            records.append(new byte[] {1, 2, 3});
+            records.append(new byte[] {4, 5, 6});
+            assert(records.remove(1)[2] == 6): "records should round trip";
+
+            //A record the codec refuses doesn't use up a slot
+            long recordMemory = records.memoryUsed();
+            for(int i = 0; i < 5000; i++){
+                try{
+                    records.append(new byte[2]);
+                    assert(false): "short record should be refused";
+                }catch(IllegalArgumentException e){
+                    assert(records.size() == 1): "refused record not added";
+                }
+            }
+            records.append(new byte[] {7, 8, 9});
+            assert(records.memoryUsed() == recordMemory
+                && records.get(1)[0] == 7): "refused slots should be reused";
+        }
+
+        //close gives the native memory back straight away
+        OffHeapList<Long> big = new OffHeapList<Long>(RecordCodec.LONG);
+        for(long i = 0; i < 1000000; i++){
+            big.append(i);
+        }
+        long before = directMemory();
+        big.close();
+        long after = directMemory();
+        System.out.println("Direct memory freed by close: "
+            + (INVOKE_CLEANER == null ? "left to GC" : before - after > 0));
+        assert(INVOKE_CLEANER == null || before - after >= 1000000L * 16):
+            "close should free the slabs";
+
+        a.close();
+        a.close();
+        assert(a.toString().isEmpty()): "closed list prints nothing";
+        try{
+            a.append(1);
+            assert(false): "closed list should refuse appends";
+        }catch(IllegalStateException e){
+            System.out.println("Closed: " + e.getMessage());
+        }
+    }
+}
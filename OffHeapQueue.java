@@ -0,0 +1,143 @@
+/**
+ * OffHeapQueue is the queue version of OffHeapList. The first record in is
+ * the first record out, and records are kept in native memory until the
+ * queue is closed.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class OffHeapQueue<T> extends OffHeapList<T>
+{
+    /**
+     * Codec argument constructor creates a new empty queue.
+     * 
+     * @param RecordCodec codec turns items into records and back
+     */
+    public OffHeapQueue(RecordCodec<T> codec){
+        super(codec);
+    }
+
+    /**
+     * Full argument constructor creates a new empty queue with slabs of
+     * at least the given number of slots.
+     * 
+     * @param RecordCodec codec turns items into records and back
+     * @param int slabSlots slots in each slab of native memory
+     */
+    public OffHeapQueue(RecordCodec<T> codec, int slabSlots){
+        super(codec, slabSlots);
+    }
+
+    /**
+     * enqueue will add an item to the head of the queue
+     * 
+     * @param T item to be added to queue
+     */
+    public void enqueue(T next){
+        this.append(next);
+    }
+
+    /**
+     * dequeue will return the item at the tail of the queue. Also known
+     * as the first item enqueued.
+     * 
+     * @return T at tail of list, null if the queue is empty
+     */
+    public T dequeue(){
+        if(this.isEmpty()){
+            fail("Dequeue Failed: ", "empty queue");
+            return null;
+        }
+
+        return super.remove(0);
+    }
+
+    /**
+     * poll will return the item at the tail of the queue like dequeue,
+     * but an empty queue is never reported whatever the error policy is.
+     * 
+     * @return T at tail of list, null if the queue is empty
+     */
+    public T poll(){
+        return super.tryRemove(0);
+    }
+
+    /**
+     * Override the insert method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param T item to be added
+     * @param int of index
+     */
+    @Override
+    public void insert(T a, int n){
+        enqueue(a);
+    }
+
+    /**
+     * Override the remove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T remove(int index){
+        return dequeue();
+    }
+
+    /**
+     * Override the tryRemove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T tryRemove(int index){
+        return poll();
+    }
+
+    /**
+     * Override delete method because it would compromise the queue data
+     * structure.
+     * 
+     * @int index
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void delete(int index){
+        fail("", "Delete not usable in queue");
+    }
+
+    public static void main(String[] args){
+        try(OffHeapQueue<Long> a = new OffHeapQueue<Long>(RecordCodec.LONG)){
+            a.enqueue(10L);
+            a.enqueue(20L);
+            a.insert(30L, 7);
+            System.out.println("a after en: " + a.toString());
+
+            assert(a.size() == 3): "size should be 3";
+            assert(a.dequeue() == 10L): "first in should be 10";
+            assert(a.remove(5) == 20L): "next should be 20";
+            assert(a.poll() == 30L): "next should be 30";
+            assert(a.isEmpty()): "a should be empty";
+            assert(a.dequeue() == null): "empty dequeue should be null";
+            assert(a.poll() == null): "empty poll should be null";
+
+            a.delete(1);
+
+            //A full cycle through the queue reuses the same native memory
+            for(long i = 0; i < 100000; i++){
+                a.enqueue(i);
+            }
+            long memory = a.memoryUsed();
+            for(long i = 0; i < 100000; i++){
+                assert(a.dequeue() == i): "queue should be FIFO";
+                a.enqueue(i);
+            }
+            assert(a.memoryUsed() == memory): "footprint should hold steady";
+            System.out.println("Native bytes for 100000 longs: " + memory);
+        }
+    }
+}
@@ -0,0 +1,444 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * PersistentList is a list that never changes once it's made. Every
+ * update returns a new version of the list and leaves the old one as it
+ * was, so a version can be handed to other threads and read without any
+ * locking or copying while new versions keep being made.
+ *
+ * Index zero is the first item appended and append adds at the other end,
+ * the same as List. Each node links to the item before it, like List's
+ * nodes do, but never has its data or link changed. An append makes one
+ * node that links to the old head, so the new version shares every node
+ * of the old one. An insert or remove at some index has to copy the nodes
+ * above that index, and shares every node below it. Each node also keeps
+ * the size of the list it heads, so size is known without a traversal.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public final class PersistentList<T> implements Iterable<T>
+{
+    /**
+     * Node holds one item and the node before it. Nothing in a node
+     * changes after it's made, so any number of versions can share it.
+     */
+    private static final class Node<T>
+    {
+        private final T data;
+        private final Node<T> link;
+        private final int size;
+
+        /**
+         * Full argument constructor makes a node on top of another.
+         *
+         * @param T data object the node holds
+         * @param Node link node of the item before it, null at index zero
+         */
+        public Node(T data, Node<T> link){
+            this.data = data;
+            this.link = link;
+            this.size = link == null ? 1 : link.size + 1;
+        }
+    }
+
+    //Every empty list is the same, so there is only one
+    @SuppressWarnings("rawtypes")
+    private static final PersistentList EMPTY = new PersistentList<Object>(
+        null, ErrorPolicy.LOG);
+
+    //Newest node, at the highest index, null for an empty list
+    private final Node<T> head;
+
+    //What the list does when asked for something it can't do
+    private final ErrorPolicy errorPolicy;
+
+    /**
+     * Full argument constructor wraps a chain of nodes as a version.
+     *
+     * @param Node head newest node of the version
+     * @param ErrorPolicy errorPolicy policy the version reports with
+     */
+    private PersistentList(Node<T> head, ErrorPolicy errorPolicy){
+        this.head = head;
+        this.errorPolicy = errorPolicy;
+    }
+
+    /**
+     * empty returns the empty list.
+     *
+     * @return PersistentList with no items
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty(){
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * from makes a list of the given items in order.
+     *
+     * @param Iterable items objects to put in the list
+     * @return PersistentList holding the items
+     */
+    public static <T> PersistentList<T> from(Iterable<? extends T> items){
+        Node<T> head = null;
+        for(T next : items){
+            head = new Node<T>(next, head);
+        }
+        return new PersistentList<T>(head, ErrorPolicy.LOG);
+    }
+
+    /**
+     * Append returns a version with an item added at the end. It shares
+     * every node of this version.
+     *
+     * @param T next object to be added
+     * @return PersistentList with the item appended
+     */
+    public PersistentList<T> append(T next){
+        return new PersistentList<T>(new Node<T>(next, head), errorPolicy);
+    }
+
+    /**
+     * Size will return the number of items in the list, which the head
+     * node keeps.
+     *
+     * @return int size is the number of objects in the list
+     */
+    public int size(){
+        return head == null ? 0 : head.size;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty.
+     *
+     * @return boolean true if list is empty
+     */
+    public boolean isEmpty(){
+        return head == null;
+    }
+
+    /**
+     * insert returns a version with the object at an index changed, or
+     * appended if the index is the size. The nodes above the index are
+     * copied and the ones below it are shared.
+     *
+     * @param T next object to be added at index
+     * @param int index where the object should be changed
+     * @return PersistentList with the change, this list if index is invalid
+     * @exception reported by the error policy when index outside of range
+     */
+    public PersistentList<T> insert(T next, int index){
+        if(!insideRange(index, "Failed to insert object: ")){
+            return this;
+        }
+
+        if(index == size()){
+            return append(next);
+        }
+
+        return rebuild(index, new Node<T>(next, nodeAt(index).link));
+    }
+
+    /**
+     * remove returns a version without the item at an index. The nodes
+     * above the index are copied and the ones below it are shared.
+     *
+     * @param int index of item to remove
+     * @return PersistentList without the item, this list if index is
+     *     invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public PersistentList<T> remove(int index){
+        if(!insideRange(index, "Failed to remove node: ")){
+            return this;
+        }
+
+        if(isEmpty()){
+            errorPolicy.report("Failed to remove node: ", "Can't remove"
+                + " from empty  list");
+            return this;
+        }
+        else if(index == size()){
+            errorPolicy.report("Failed to remove node: ", "Outside of list"
+                + " range");
+            return this;
+        }
+
+        return rebuild(index, nodeAt(index).link);
+    }
+
+    /**
+     * get will return the data at a specified index. The node is found by
+     * walking down from the head.
+     *
+     * @param int index of node to read
+     * @return T data at specified node, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public T get(int index){
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == size()){
+            errorPolicy.report("Failed to get node: ", "Outside of list"
+                + " range");
+            return null;
+        }
+
+        return nodeAt(index).data;
+    }
+
+    /**
+     * withErrorPolicy returns a version with the same items that reports
+     * failed operations the given way. It shares every node.
+     *
+     * @param ErrorPolicy policy to use in the new version
+     * @return PersistentList with the policy
+     */
+    public PersistentList<T> withErrorPolicy(ErrorPolicy policy){
+        return new PersistentList<T>(head, Objects.requireNonNull(policy));
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list.
+     *
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            errorPolicy.report(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > size()){
+            errorPolicy.report(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * nodeAt walks down from the head to the node at an index. The index
+     * must already be known to be inside the list.
+     *
+     * @param int index of node to find
+     * @return Node at the specified index
+     */
+    private Node<T> nodeAt(int index){
+        Node<T> position = head;
+        while(position.size - 1 > index){
+            position = position.link;
+        }
+        return position;
+    }
+
+    /**
+     * rebuild makes a version where the node at an index is replaced by a
+     * new chain. The nodes above the index are copied on top of it in
+     * their order.
+     *
+     * @param int index of node being replaced
+     * @param Node below chain to put in place of the node and all below
+     * @return PersistentList with the replacement
+     */
+    private PersistentList<T> rebuild(int index, Node<T> below){
+        //Gather the items above the index, newest first
+        int above = size() - 1 - index;
+        Object[] items = new Object[above];
+        Node<T> position = head;
+        for(int i = 0; i < above; i++){
+            items[i] = position.data;
+            position = position.link;
+        }
+
+        Node<T> retVal = below;
+        for(int i = above - 1; i >= 0; i--){
+            @SuppressWarnings("unchecked")
+            T data = (T) items[i];
+            retVal = new Node<T>(data, retVal);
+        }
+
+        return new PersistentList<T>(retVal, errorPolicy);
+    }
+
+    /**
+     * indexOf will find the highest index holding the target, walking down
+     * from the head like List does.
+     *
+     * @param T target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    public int indexOf(T target){
+        for(Node<T> position = head; position != null;
+            position = position.link){
+            if(Objects.equals(position.data, target)){
+                return position.size - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * toList copies the items into a new List in the same order.
+     *
+     * @return List holding the same items
+     */
+    public List<T> toList(){
+        List<T> retVal = new List<T>();
+        retVal.appendAll(this);
+        return retVal;
+    }
+
+    /**
+     * iterator goes through the items from index zero up like List does.
+     * The nodes only link downwards, so the items are gathered from the
+     * head first and then handed out from the bottom.
+     *
+     * @return Iterator over the items in index order
+     */
+    @Override
+    public Iterator<T> iterator(){
+        final Object[] items = new Object[size()];
+        int i = items.length;
+        for(Node<T> position = head; position != null;
+            position = position.link){
+            items[--i] = position.data;
+        }
+
+        return new Iterator<T>(){
+            private int next = 0;
+
+            @Override
+            public boolean hasNext(){
+                return next < items.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next(){
+                if(next == items.length){
+                    throw new NoSuchElementException();
+                }
+                return (T) items[next++];
+            }
+        };
+    }
+
+    /**
+     * toString will enumerate the list from the head and return it as a
+     * string with values separated by white space, like List.
+     *
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(Node<T> position = head; position != null;
+            position = position.link){
+            retVal.append(String.valueOf(position.data)).append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        PersistentList<Integer> empty = PersistentList.empty();
+        PersistentList<Integer> a = empty.append(1).append(2).append(3);
+
+        //Versions Tests
+        System.out.println("\n Versions Tests \n");
+        assert(empty.isEmpty() && a.size() == 3): "appends make versions";
+        PersistentList<Integer> b = a.insert(20, 1);
+        PersistentList<Integer> c = a.remove(0);
+        PersistentList<Integer> d = a.append(4);
+        System.out.println("a: " + a + " b: " + b + " c: " + c + " d: " + d);
+        assert(a.toString().equals("3 2 1 ")): "a should be unchanged";
+        assert(b.get(1) == 20 && b.size() == 3): "b changes index 1";
+        assert(c.get(0) == 2 && c.size() == 2): "c drops index 0";
+        assert(d.head.link == a.head): "append should share every node";
+        assert(b.head.link.link == a.head.link.link): "below index shared";
+        assert(a.insert(5, 3).size() == 4): "insert at size appends";
+
+        //Bad indexes leave the version as it was
+        assert(a.remove(3) == a && a.insert(9, -1) == a): "bad index";
+        assert(empty.remove(0) == empty && a.get(7) == null): "bad index";
+        PersistentList<Integer> quiet = a.withErrorPolicy(ErrorPolicy.SILENT);
+        assert(quiet.remove(-2) == quiet): "silent miss";
+        assert(quiet.append(4).remove(9).size() == 4): "policy carries on";
+
+        //Iterator, indexOf and toList
+        int expected = 1;
+        for(int item : d){
+            assert(item == expected++): "iterator should go index order";
+        }
+        assert(d.append(2).indexOf(2) == 4 && d.indexOf(7) == -1): "indexOf";
+        assert(d.toList().toString().equals(d.toString())): "toList order";
+
+        //Random changes should match a List
+        Random random = new Random(3);
+        List<Integer> mutable = new List<Integer>();
+        PersistentList<Integer> current = PersistentList.empty();
+        ArrayList<PersistentList<Integer>> versions =
+            new ArrayList<PersistentList<Integer>>();
+        ArrayList<String> printed = new ArrayList<String>();
+        for(int i = 0; i < 2000; i++){
+            int op = random.nextInt(4);
+            if(op < 2 || mutable.isEmpty()){
+                mutable.append(i);
+                current = current.append(i);
+            }
+            else if(op == 2){
+                int index = random.nextInt(mutable.size());
+                mutable.insert(-i, index);
+                current = current.insert(-i, index);
+            }
+            else{
+                int index = random.nextInt(mutable.size());
+                mutable.remove(index);
+                current = current.remove(index);
+            }
+
+            if(i % 100 == 0){
+                versions.add(current);
+                printed.add(current.toString());
+            }
+        }
+        assert(current.toString().equals(mutable.toString())): "match List";
+        for(int i = 0; i < versions.size(); i++){
+            assert(versions.get(i).toString().equals(printed.get(i))):
+                "old versions should never change";
+        }
+
+        //A reader holds a version while the writer keeps making new ones
+        final PersistentList<Integer> snapshot = current;
+        final String seen = snapshot.toString();
+        final boolean[] same = {true};
+        Thread reader = new Thread(() -> {
+            for(int i = 0; i < 200; i++){
+                same[0] &= snapshot.toString().equals(seen);
+            }
+        });
+        reader.start();
+        for(int i = 0; i < 10000; i++){
+            current = current.append(i).remove(0);
+        }
+        reader.join();
+        assert(same[0]): "snapshot should read the same every time";
+        System.out.println("Size after writer: " + current.size());
+    }
+}
@@ -0,0 +1,774 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * PersistentQueue is a queue that keeps its items in files, so they are
+ * still there after the process restarts. It has the same enqueue,
+ * dequeue and poll as Queue, with items turned into bytes by an
+ * ElementCodec.
+ *
+ * Items are appended to segment files that are mapped into memory, so an
+ * enqueue or dequeue is a copy to or from memory rather than a system
+ * call. Each item is written as a record of its byte count, a CRC32 of
+ * its bytes and then the bytes. When a record doesn't fit in what's left
+ * of a segment the writer marks the end of the segment and moves on to a
+ * new file. Segments are named by their number, and an offset into the
+ * queue is just the segment number times the segment size plus a place
+ * in that segment.
+ *
+ * How far the consumer has got is kept in a small offset file. Neither
+ * it nor the segments are forced to disk on every change. Instead every
+ * so many operations, or whenever sync is called, both are forced, and
+ * only then are segments the consumer has finished with deleted. After a
+ * crash the queue reopens at the last synced consumer offset and replays
+ * from there, checking each record's CRC and stopping at the first one
+ * that is missing or torn. Items dequeued since the last sync come out
+ * again, so consumers should expect to see an item more than once.
+ *
+ * The queue is for one thread at a time, like Queue.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class PersistentQueue<T> implements AutoCloseable
+{
+    //Bytes in each segment made by the two argument constructor
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+
+    //Operations between syncs made by the two argument constructor
+    private static final int DEFAULT_SYNC_EVERY = 1024;
+
+    //Bytes before each record for its length and CRC
+    private static final int HEADER = 8;
+
+    //Length written where a segment ends early because a record didn't
+    //fit in the rest of it
+    private static final int END = -1;
+
+    //Name of the file holding the consumer offset
+    private static final String OFFSET_FILE = "consumer.offset";
+
+    //Bytes in each of the two offset slots, an offset and its CRC
+    private static final int SLOT = 16;
+
+    /**
+     * Encoder gathers the bytes of one item so its length and CRC are
+     * known before it is copied into a segment.
+     */
+    private static class Encoder extends ByteArrayOutputStream
+    {
+        /**
+         * bytes returns the array the encoded bytes are in.
+         *
+         * @return byte[] array holding count encoded bytes
+         */
+        public byte[] bytes(){
+            return buf;
+        }
+    }
+
+    /**
+     * Decoder lets one stream read each record in turn without making a
+     * new stream for every item.
+     */
+    private static class Decoder extends ByteArrayInputStream
+    {
+        /**
+         * No argument constructor starts with nothing to read.
+         */
+        public Decoder(){
+            super(new byte[64]);
+        }
+
+        /**
+         * load points the stream at the start of a record's bytes.
+         *
+         * @param byte[] bytes array holding the record
+         * @param int length bytes of the record in the array
+         * @return Nothing
+         */
+        public void load(byte[] bytes, int length){
+            buf = bytes;
+            pos = 0;
+            count = length;
+            mark = 0;
+        }
+    }
+
+    //Directory holding the segments and offset file
+    private final Path directory;
+
+    //Turns items into bytes and back
+    private final ElementCodec<T> codec;
+
+    //Bytes in every segment file
+    private final int segmentSize;
+
+    //Operations between syncs, zero to only sync when asked
+    private final int syncEvery;
+
+    //Segment being appended to and its number
+    private MappedByteBuffer writeSegment;
+    private long writeNumber;
+
+    //Segment being read from and its number
+    private MappedByteBuffer readSegment;
+    private long readNumber;
+
+    //Offset the next record is written at
+    private long writeOffset;
+
+    //Offset of the next record to dequeue
+    private long readOffset;
+
+    //Lowest numbered segment file that hasn't been deleted
+    private long firstNumber;
+
+    //Two slots for the consumer offset, written in turn so a torn write
+    //always leaves the other slot whole
+    private MappedByteBuffer offsets;
+    private int nextSlot = 0;
+
+    //Items in the queue
+    private int count = 0;
+
+    //Operations since the last sync
+    private int unsynced = 0;
+
+    //Reused for each record
+    private final Encoder encoder = new Encoder();
+    private final DataOutputStream out = new DataOutputStream(encoder);
+    private final Decoder decoder = new Decoder();
+    private final DataInputStream in = new DataInputStream(decoder);
+    private final CRC32 crc = new CRC32();
+    private byte[] record = new byte[64];
+
+    //Set once the queue has been closed
+    private boolean closed = false;
+
+    //What the queue does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    /**
+     * Two argument constructor opens the queue kept in a directory, or
+     * starts a new one there, with 64MB segments and a sync every 1024
+     * operations.
+     *
+     * @param Path directory where the queue's files are kept
+     * @param ElementCodec codec that turns items into bytes and back
+     * @throws IOException if the files can't be opened or made
+     */
+    public PersistentQueue(Path directory, ElementCodec<T> codec)
+        throws IOException{
+        this(directory, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Full argument constructor opens the queue kept in a directory, or
+     * starts a new one there. A queue has to be opened with the segment
+     * size it was made with.
+     *
+     * @param Path directory where the queue's files are kept
+     * @param ElementCodec codec that turns items into bytes and back
+     * @param int segmentSize bytes in each segment file
+     * @param int syncEvery operations between syncs, zero for only when
+     *     sync or close is called
+     * @throws IOException if the files can't be opened or made
+     */
+    public PersistentQueue(Path directory, ElementCodec<T> codec,
+        int segmentSize, int syncEvery) throws IOException{
+        if(segmentSize < 2 * HEADER){
+            throw new IllegalArgumentException("Segment size must be at"
+                + " least " + 2 * HEADER + " bytes");
+        }
+
+        this.directory = Files.createDirectories(directory);
+        this.codec = Objects.requireNonNull(codec);
+        this.segmentSize = segmentSize;
+        this.syncEvery = Math.max(syncEvery, 0);
+
+        offsets = map(directory.resolve(OFFSET_FILE), 2 * SLOT);
+        recover();
+    }
+
+    /**
+     * recover finds where the consumer got to and replays the records
+     * after it to find where the writer got to. Anything past the last
+     * whole record was torn by a crash and is cleared so it can't be
+     * mistaken for a record later.
+     *
+     * @return Nothing
+     * @throws IOException if a segment can't be mapped or deleted
+     */
+    private void recover() throws IOException{
+        TreeSet<Long> numbers = segmentNumbers();
+        long offset = committedOffset();
+
+        //Segments before the first one left were finished with
+        if(!numbers.isEmpty() && offset < numbers.first() * segmentSize){
+            offset = numbers.first() * segmentSize;
+        }
+        readOffset = offset;
+        readNumber = offset / segmentSize;
+        firstNumber = numbers.isEmpty() ? readNumber : numbers.first();
+
+        //Walk the whole records from the consumer offset on
+        long number = readNumber;
+        MappedByteBuffer segment = segment(number);
+        readSegment = segment;
+
+        while(true){
+            //A record that filled its segment exactly leaves the offset at
+            //the start of the next one
+            if(offset / segmentSize != number){
+                number++;
+                segment = segment(number);
+                continue;
+            }
+
+            int place = (int) (offset % segmentSize);
+            if(place + HEADER > segmentSize
+                || segment.getInt(place) == END){
+                if(!numbers.contains(number + 1)){
+                    break;
+                }
+
+                number++;
+                offset = number * segmentSize;
+                segment = segment(number);
+                continue;
+            }
+
+            int length = segment.getInt(place);
+            if(length <= 0 || place + HEADER + length > segmentSize
+                || segment.getInt(place + 4) != checksum(segment,
+                    place + HEADER, length)){
+                break;
+            }
+
+            offset += HEADER + length;
+            count++;
+        }
+
+        writeOffset = offset;
+        writeNumber = number;
+        writeSegment = segment;
+
+        //Clear the torn tail of the last segment and drop any after it,
+        //only writing where there is something to clear
+        int place = (int) (offset % segmentSize);
+        for(; place < segmentSize && (place & 7) != 0; place++){
+            if(segment.get(place) != 0){
+                segment.put(place, (byte) 0);
+            }
+        }
+        for(; place + 8 <= segmentSize; place += 8){
+            if(segment.getLong(place) != 0){
+                segment.putLong(place, 0);
+            }
+        }
+        for(; place < segmentSize; place++){
+            if(segment.get(place) != 0){
+                segment.put(place, (byte) 0);
+            }
+        }
+        for(long later : numbers.tailSet(number, false)){
+            Files.delete(segmentPath(later));
+        }
+    }
+
+    /**
+     * committedOffset reads the consumer offset from whichever slot holds
+     * a whole offset and is furthest along.
+     *
+     * @return long last synced consumer offset, zero for a new queue
+     */
+    private long committedOffset(){
+        long retVal = 0;
+
+        for(int slot = 0; slot < 2; slot++){
+            long offset = offsets.getLong(slot * SLOT);
+            int check = offsets.getInt(slot * SLOT + 8);
+
+            if(check == offsetChecksum(offset) && offset >= retVal){
+                retVal = offset;
+                nextSlot = 1 - slot;
+            }
+        }
+
+        return retVal;
+    }
+
+    /**
+     * enqueue will add an item to the end of the queue. It is encoded,
+     * then copied into the current segment after its length and CRC.
+     *
+     * @param T next item to be added to queue
+     * @return Nothing
+     * @throws UncheckedIOException if the item can't be encoded or a new
+     *     segment can't be made
+     */
+    public void enqueue(T next){
+        open();
+
+        try{
+            encoder.reset();
+            codec.write(next, out);
+            out.flush();
+
+            int length = encoder.size();
+            if(length == 0 || HEADER + length > segmentSize){
+                throw new IllegalArgumentException("Item takes " + length
+                    + " bytes, which doesn't fit in a record");
+            }
+
+            int place = (int) (writeOffset % segmentSize);
+            if(place + HEADER + length > segmentSize){
+                //Mark where this segment ends and start the next one
+                if(place + HEADER <= segmentSize){
+                    writeSegment.putInt(place, END);
+                }
+                writeOffset = (writeOffset / segmentSize + 1) * segmentSize;
+                place = 0;
+            }
+
+            //Also reached when the last record filled its segment exactly
+            if(writeOffset / segmentSize != writeNumber){
+                writeSegment.force();
+                writeNumber = writeOffset / segmentSize;
+                writeSegment = segment(writeNumber);
+            }
+
+            //Length goes in last so a reader never sees half a record
+            byte[] bytes = encoder.bytes();
+            for(int i = 0; i < length; i++){
+                writeSegment.put(place + HEADER + i, bytes[i]);
+            }
+            crc.reset();
+            crc.update(bytes, 0, length);
+            writeSegment.putInt(place + 4, (int) crc.getValue());
+            writeSegment.putInt(place, length);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+
+        writeOffset += HEADER + encoder.size();
+        count++;
+        counted();
+    }
+
+    /**
+     * dequeue will return the item at the front of the queue. Also known
+     * as the first item enqueued.
+     *
+     * @return T at front of queue, null if the queue is empty
+     * @exception reported by the error policy when the queue is empty
+     * @throws UncheckedIOException if a segment can't be read
+     */
+    public T dequeue(){
+        open();
+
+        if(count == 0){
+            errorPolicy.report("Dequeue Failed: ", "empty queue");
+            return null;
+        }
+
+        return take();
+    }
+
+    /**
+     * poll will return the item at the front of the queue like dequeue,
+     * but an empty queue is never reported whatever the error policy is.
+     *
+     * @return T at front of queue, null if the queue is empty
+     * @throws UncheckedIOException if a segment can't be read
+     */
+    public T poll(){
+        open();
+        return count == 0 ? null : take();
+    }
+
+    /**
+     * take reads and decodes the record at the consumer offset and moves
+     * the offset past it. The queue must not be empty.
+     *
+     * @return T item that was at the front of the queue
+     */
+    private T take(){
+        try{
+            //A record that filled its segment exactly leaves the offset at
+            //the start of the next one
+            if(readOffset / segmentSize != readNumber){
+                follow();
+            }
+
+            //Follow the writer on to the next segment
+            int place = (int) (readOffset % segmentSize);
+            if(place + HEADER > segmentSize
+                || readSegment.getInt(place) == END){
+                readOffset = (readNumber + 1) * segmentSize;
+                follow();
+                place = 0;
+            }
+
+            int length = readSegment.getInt(place);
+            if(record.length < length){
+                record = new byte[Math.max(length, record.length * 2)];
+            }
+            for(int i = 0; i < length; i++){
+                record[i] = readSegment.get(place + HEADER + i);
+            }
+
+            readOffset += HEADER + length;
+            count--;
+            counted();
+
+            decoder.load(record, length);
+            return codec.read(in);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * follow moves the reader on to the segment its offset is in.
+     *
+     * @return Nothing
+     * @throws IOException if the segment can't be mapped
+     */
+    private void follow() throws IOException{
+        readNumber = readOffset / segmentSize;
+        readSegment = readNumber == writeNumber ? writeSegment
+            : segment(readNumber);
+    }
+
+    /**
+     * counted syncs once enough operations have gone by since the last
+     * sync.
+     *
+     * @return Nothing
+     */
+    private void counted(){
+        if(syncEvery > 0 && ++unsynced >= syncEvery){
+            sync();
+        }
+    }
+
+    /**
+     * sync forces the records written so far to disk, then records how
+     * far the consumer has got and forces that too. Segments the
+     * consumer has finished with are deleted once the new offset is safe.
+     *
+     * @return Nothing
+     * @throws UncheckedIOException if a finished segment can't be deleted
+     */
+    public void sync(){
+        open();
+        unsynced = 0;
+        writeSegment.force();
+
+        int slot = nextSlot * SLOT;
+        offsets.putLong(slot, readOffset);
+        offsets.putInt(slot + 8, offsetChecksum(readOffset));
+        offsets.force();
+        nextSlot = 1 - nextSlot;
+
+        try{
+            for(; firstNumber < readNumber; firstNumber++){
+                Files.deleteIfExists(segmentPath(firstNumber));
+            }
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Size will return the number of items in the queue.
+     *
+     * @return int size is the number of items in the queue
+     */
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the queue is empty by looking at the count.
+     *
+     * @return boolean true if queue is empty
+     */
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * setErrorPolicy picks what the queue does when an operation can't be
+     * done. Queues start out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * close syncs the queue and lets go of its segments. It can't be used
+     * afterwards. Closing twice does nothing.
+     *
+     * @return Nothing
+     */
+    @Override
+    public void close(){
+        if(!closed){
+            sync();
+            closed = true;
+            writeSegment = null;
+            readSegment = null;
+            offsets = null;
+        }
+    }
+
+    /**
+     * open checks the queue hasn't been closed.
+     *
+     * @return Nothing
+     * @throws IllegalStateException if the queue was closed
+     */
+    private void open(){
+        if(closed){
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    /**
+     * segment maps a segment file, making it if it doesn't exist yet.
+     *
+     * @param long number of the segment
+     * @return MappedByteBuffer over the whole segment
+     * @throws IOException if the file can't be made or mapped
+     */
+    private MappedByteBuffer segment(long number) throws IOException{
+        return map(segmentPath(number), segmentSize);
+    }
+
+    /**
+     * map maps a file into memory, growing it to the given size. The
+     * mapping stays valid after the channel is closed.
+     *
+     * @param Path path of the file
+     * @param int size bytes to map
+     * @return MappedByteBuffer over the file
+     * @throws IOException if the file can't be made or mapped
+     */
+    private static MappedByteBuffer map(Path path, int size)
+        throws IOException{
+        try(FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)){
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * segmentPath gives the file name of a segment. Numbers are padded so
+     * the files list in order.
+     *
+     * @param long number of the segment
+     * @return Path of the segment file
+     */
+    private Path segmentPath(long number){
+        return directory.resolve(String.format("segment-%019d.dat", number));
+    }
+
+    /**
+     * segmentNumbers lists the segment files in the directory.
+     *
+     * @return TreeSet numbers of the segments found, lowest first
+     * @throws IOException if the directory can't be read
+     */
+    private TreeSet<Long> segmentNumbers() throws IOException{
+        TreeSet<Long> retVal = new TreeSet<Long>();
+
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+            "segment-*.dat")){
+            for(Path file : files){
+                String name = file.getFileName().toString();
+                retVal.add(Long.parseLong(name.substring(8,
+                    name.length() - 4)));
+            }
+        }
+
+        return retVal;
+    }
+
+    /**
+     * checksum works out the CRC32 of bytes in a segment.
+     *
+     * @param MappedByteBuffer segment holding the bytes
+     * @param int place index of the first byte
+     * @param int length number of bytes
+     * @return int CRC32 of the bytes
+     */
+    private int checksum(MappedByteBuffer segment, int place, int length){
+        crc.reset();
+        for(int i = 0; i < length; i++){
+            crc.update(segment.get(place + i));
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * offsetChecksum works out a check value for a consumer offset so a
+     * torn slot can be told apart from a whole one. A fresh file is all
+     * zeros, so the check is made to be nonzero for offset zero.
+     *
+     * @param long offset to check
+     * @return int check value for the offset
+     */
+    private static int offsetChecksum(long offset){
+        return Long.hashCode(offset * 0x9E3779B97F4A7C15L) ^ 0x5F3759DF;
+    }
+
+    /**
+     * delete removes a queue directory and everything in it. It is only
+     * used to clean up after the tests.
+     *
+     * @param Path directory to delete
+     * @return Nothing
+     * @throws IOException if a file can't be deleted
+     */
+    private static void delete(Path directory) throws IOException{
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(
+            directory)){
+            for(Path file : files){
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    public static void main(String[] args) throws IOException{
+        Path directory = Files.createTempDirectory("queue");
+
+        //Basic Tests
+        PersistentQueue<String> a = new PersistentQueue<String>(directory,
+            ElementCodec.STRING, 64, 0);
+        assert(a.isEmpty() && a.poll() == null): "new queue should be empty";
+        a.dequeue();
+
+        for(int i = 0; i < 20; i++){
+            a.enqueue("item " + i);
+        }
+        assert(a.size() == 20): "size should be 20";
+        assert(a.dequeue().equals("item 0")): "first in should be first out";
+        assert(a.poll().equals("item 1")): "poll should take the next item";
+        assert(a.segmentNumbers().size() > 5): "small segments should roll";
+        a.close();
+
+        //Restart Tests
+        a = new PersistentQueue<String>(directory, ElementCodec.STRING, 64,
+            0);
+        assert(a.size() == 18): "items should survive a restart";
+        assert(a.dequeue().equals("item 2")): "restart resumes at offset";
+
+        //Items dequeued after the last sync come out again after a crash
+        a.sync();
+        a.dequeue();
+        a.dequeue();
+        PersistentQueue<String> b = new PersistentQueue<String>(directory,
+            ElementCodec.STRING, 64, 0);
+        assert(b.size() == 17): "unsynced dequeues should be replayed";
+        assert(b.dequeue().equals("item 3")): "replay starts at last sync";
+        b.close();
+
+        //A torn record ends the queue at the last whole one
+        b = new PersistentQueue<String>(directory, ElementCodec.STRING, 64,
+            0);
+        assert(b.segmentNumbers().first() > 0): "used segments deleted";
+        long last = b.writeOffset;
+        b.enqueue("torn");
+        b.writeSegment.put((int) (last % 64) + HEADER, (byte) 'X');
+        int size = b.size();
+        b.sync();
+        b = new PersistentQueue<String>(directory, ElementCodec.STRING, 64,
+            0);
+        assert(b.size() == size - 1): "torn record should be dropped";
+        b.enqueue("whole");
+        String item = null;
+        for(String next = b.poll(); next != null; next = b.poll()){
+            item = next;
+        }
+        assert("whole".equals(item)): "writes go on after the last record";
+        b.close();
+
+        try{
+            b.enqueue("closed");
+            assert(false): "closed queue should refuse items";
+        }catch(IllegalStateException e){
+            System.out.println("Closed: " + e.getMessage());
+        }
+        delete(directory);
+
+        //Records that fill a segment exactly, 16 bytes each in 32
+        directory = Files.createTempDirectory("queue");
+        PersistentQueue<Long> exact = new PersistentQueue<Long>(directory,
+            ElementCodec.LONG, 32, 0);
+        for(long i = 1; i <= 3; i++){
+            exact.enqueue(i);
+        }
+        for(long i = 1; i <= 3; i++){
+            assert(exact.dequeue() == i): "full segment shouldn't wrap";
+        }
+        exact.enqueue(4L);
+        exact.close();
+        exact = new PersistentQueue<Long>(directory, ElementCodec.LONG, 32,
+            0);
+        assert(exact.size() == 1): "reopen after a full segment";
+        exact.enqueue(5L);
+        exact.enqueue(6L);
+        exact.close();
+        exact = new PersistentQueue<Long>(directory, ElementCodec.LONG, 32,
+            0);
+        assert(exact.size() == 3 && exact.dequeue() == 4
+            && exact.dequeue() == 5 && exact.dequeue() == 6):
+            "records on both sides of a full segment survive a reopen";
+        exact.close();
+        delete(directory);
+
+        //Throughput with and without syncing
+        int items = 2000000;
+        for(int syncEvery : new int[] {0, 4096}){
+            directory = Files.createTempDirectory("queue");
+            PersistentQueue<Long> numbers = new PersistentQueue<Long>(
+                directory, ElementCodec.LONG, DEFAULT_SEGMENT_SIZE,
+                syncEvery);
+
+            long start = System.nanoTime();
+            for(long i = 0; i < items; i++){
+                numbers.enqueue(i);
+            }
+            for(long i = 0; i < items; i++){
+                assert(numbers.dequeue() == i): "numbers should be FIFO";
+            }
+            long elapsed = System.nanoTime() - start;
+            numbers.close();
+            delete(directory);
+
+            System.out.println("sync every " + syncEvery + ": "
+                + (2L * items * 1000000000L / elapsed) + " ops/s");
+        }
+    }
+}
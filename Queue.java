@@ -1,3 +1,7 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
 
 /**
  * This queue class will implement a queue data structure using the super 
@@ -8,7 +12,7 @@
  * @author Connor Teal
  * @version February 15, 2017
  */
-public class Queue extends List
+public class Queue<T> extends List<T>
 {
     /**
      * No argument constructor creates a new empty queue.
@@ -20,31 +24,62 @@ public class Queue extends List
     /**
      * enqueue will add an object to the head of the queue
      * 
-     * @param Object item to be added to queue
+     * @param T item to be added to queue
      */
-    public void enqueue(Object next){
+    public void enqueue(T next){
         this.append(next);
     }
 
+    /**
+     * enqueueAll will add every item to the head of the queue in the order
+     * they are given, linking them on in one step.
+     * 
+     * @param Iterable items to be added to queue
+     */
+    public void enqueueAll(Iterable<? extends T> items){
+        this.appendAll(items);
+    }
+
     /**
      * dequeue will return the item at the tail of the queue. Also known
      * as the first item enqueued.
      * 
-     * @return Object at tail of list
+     * @return T at tail of list
      */
-    public Object dequeue(){
-        try{
-            // if size is less than or equal to zero throw exception
-            if(this.size() <= 0){
-                throw new LinkedListException("empty queue");
-            }
-
-            //return the object at the beginning of the linked list
-            return super.remove(0);
-        }catch(LinkedListException e){
-            System.err.println("Dequeue Failed: " + e.getMessage());
+    public T dequeue(){
+        // if size is less than or equal to zero report it
+        if(this.size() <= 0){
+            fail("Dequeue Failed: ", "empty queue");
+            return null;
         }
-        return null;
+
+        //return the object at the beginning of the linked list
+        return super.remove(0);
+    }
+
+    /**
+     * poll will return the item at the tail of the queue like dequeue,
+     * but an empty queue is never reported whatever the error policy is.
+     * Consumers that check for work often should use it.
+     * 
+     * @return T at tail of list, null if the queue is empty
+     */
+    public T poll(){
+        return super.tryRemove(0);
+    }
+
+    /**
+     * dequeue with a count will take up to that many items from the tail
+     * of the queue at once. The run of nodes is cut off in one piece and
+     * returned as a new queue that will dequeue them in the same order.
+     * 
+     * @param int max most items to take
+     * @return Queue of the items taken, empty if there were none
+     */
+    public Queue<T> dequeue(int max){
+        Queue<T> retVal = new Queue<T>();
+        detachTail(max, retVal);
+        return retVal;
     }
 
     /**
@@ -54,7 +89,7 @@ public class Queue extends List
      * @param int of index
      */
     @Override
-    public void insert(Object a, int n){
+    public void insert(T a, int n){
         enqueue(a);
     }
 
@@ -63,32 +98,80 @@ public class Queue extends List
      * characteristics of a queue FIFO
      * 
      * @param int of index
-     * @return Object
+     * @return T
      */
     @Override
-    public Object remove(int index){
+    public T remove(int index){
         return dequeue();
     }
+
+    /**
+     * Override the tryRemove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T tryRemove(int index){
+        return poll();
+    }
     
     /**
      * Override delete method because it would compromise the queue data
      * structure.
      * 
      * @int index
-     * @exception when called
+     * @exception reported by the error policy when called
      */
     public void delete(int index){
-        try{
-            throw new LinkedListException("Delete not usable in queue");
-        }catch(LinkedListException e){
-            System.err.println(e.getMessage());
-        }
+        fail("", "Delete not usable in queue");
+    }
+
+    /**
+     * Override sort method because putting the items in a new order would
+     * compromise the queue data structure.
+     * 
+     * @param Comparator order that would have been used
+     * @return Nothing
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void sort(Comparator<? super T> order){
+        fail("", "Sort not usable in queue");
+    }
+
+    /**
+     * Override cursor method because a cursor could add or remove items
+     * anywhere, which would compromise the queue data structure.
+     * 
+     * @return Cursor null, there is no cursor over a queue
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public Cursor cursor(){
+        fail("", "Cursor not usable in queue");
+        return null;
+    }
+
+    /**
+     * Override removeIf method because taking items out of the middle
+     * would compromise the queue data structure.
+     * 
+     * @param Predicate test that would have picked the items
+     * @return int zero, nothing is removed
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public int removeIf(Predicate<? super T> test){
+        fail("", "removeIf not usable in queue");
+        return 0;
     }
 
     public static void main(String[] args){
-        Queue empty = new Queue();
-        Queue one = new Queue();
-        Queue multiple = new Queue();
+        Queue<Integer> empty = new Queue<Integer>();
+        Queue<Integer> one = new Queue<Integer>();
+        Queue<Integer> multiple = new Queue<Integer>();
 
         one.enqueue(1);
 
@@ -123,7 +206,7 @@ public class Queue extends List
         assert(one.isEmpty()): "one should be empty";
         assert(empty.isEmpty()): "empty should be empty";
 
-        Queue a = new Queue();
+        Queue<Integer> a = new Queue<Integer>();
 
         a.insert(1,0);
         a.insert(2,1);
@@ -137,5 +220,68 @@ public class Queue extends List
         System.out.println("a after remove all: " + a.toString());
         
         a.delete(1);
+
+        //Bulk Tests
+        a.enqueueAll(Arrays.asList(1, 2, 3, 4, 5));
+        Queue<Integer> batch = a.dequeue(3);
+        assert(batch.size() == 3 && a.size() == 2): "3 should move";
+        assert(batch.dequeue() == 1 && batch.dequeue() == 2): "FIFO batch";
+        assert(a.dequeue(10).size() == 2): "batch takes what's left";
+        assert(a.isEmpty() && a.dequeue(4).isEmpty()): "a should be empty";
+
+        a.enqueueAll(Arrays.asList(6, 7));
+        ArrayList<Integer> drained = new ArrayList<Integer>();
+        assert(a.drainTo(drained) == 2): "drain should move 2 items";
+        assert(drained.get(0) == 6): "drain should be FIFO";
+        System.out.println("a after drain: " + a.toString());
+
+        //Error Policy Tests
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.dequeue() == null && a.remove(0) == null): "silent miss";
+        a.delete(0);
+        assert(a.poll() == null): "poll on empty queue should be null";
+        a.enqueue(8);
+        a.enqueue(9);
+        assert(a.poll() == 8 && a.tryRemove(5) == 9): "poll should be FIFO";
+
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            a.dequeue();
+            assert(false): "dequeue on empty queue should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("empty queue")): "throw message";
+            assert(e.getStackTrace().length == 0): "should be stackless";
+        }
+        assert(a.poll() == null): "poll never throws";
+
+        //Metrics count enqueues as appends and dequeues as removes
+        ListMetrics metrics = a.enableMetrics();
+        a.enqueue(1);
+        a.enqueue(2);
+        a.dequeue();
+        assert(a.poll() == 2 && a.poll() == null): "poll should be FIFO";
+        ListMetrics.Snapshot counts = metrics.snapshot();
+        assert(counts.calls(ListMetrics.Operation.APPEND) == 2
+            && counts.calls(ListMetrics.Operation.REMOVE) == 2): "counts";
+        assert(counts.failures() == 1 && counts.maxDepth() == 2): "misses";
+
+        //Reordering would break the queue order, so sort is refused
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        a.enqueue(5);
+        a.enqueue(6);
+        try{
+            a.sort(Comparator.reverseOrder());
+            assert(false): "sort should be refused";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Sort not usable in queue")):
+                "sort message";
+        }
+        assert(a.toString().equals("6 5 ")): "order unchanged";
+
+        //Cursors and removeIf could edit the middle, so they're refused too
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.cursor() == null): "cursor should be refused";
+        assert(a.removeIf((item) -> item == 5) == 0
+            && a.toString().equals("6 5 ")): "removeIf should be refused";
     }
 }
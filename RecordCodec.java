@@ -0,0 +1,118 @@
+import java.nio.ByteBuffer;
+
+/**
+ * RecordCodec turns an item into a record of a fixed number of bytes and
+ * back. OffHeapList uses it to keep its items in native memory, where
+ * every record takes the same room so slots can be found by arithmetic.
+ *
+ * Codecs for int and long values and for byte arrays of a fixed length
+ * are provided. None of them accept null items.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public interface RecordCodec<T>
+{
+    /**
+     * size gives the number of bytes every record takes.
+     *
+     * @return int bytes per record
+     */
+    int size();
+
+    /**
+     * write encodes one item into a buffer without moving its position.
+     *
+     * @param T value item to encode
+     * @param ByteBuffer buffer where the record goes
+     * @param int offset index of the record's first byte
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**
+     * read decodes one record written by write.
+     *
+     * @param ByteBuffer buffer where the record is
+     * @param int offset index of the record's first byte
+     * @return T item that was decoded
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    //Integers as four bytes each
+    RecordCodec<Integer> INTEGER = new RecordCodec<Integer>(){
+        @Override
+        public int size(){
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer, int offset){
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset){
+            return buffer.getInt(offset);
+        }
+    };
+
+    //Longs as eight bytes each
+    RecordCodec<Long> LONG = new RecordCodec<Long>(){
+        @Override
+        public int size(){
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer, int offset){
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset){
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * bytes makes a codec for byte arrays of exactly the given length,
+     * which suits records that are already laid out by the caller.
+     *
+     * @param int length bytes in every record
+     * @return RecordCodec for arrays of that length
+     */
+    static RecordCodec<byte[]> bytes(final int length){
+        if(length <= 0){
+            throw new IllegalArgumentException("Record length must be"
+                + " greater than zero");
+        }
+
+        return new RecordCodec<byte[]>(){
+            @Override
+            public int size(){
+                return length;
+            }
+
+            @Override
+            public void write(byte[] value, ByteBuffer buffer, int offset){
+                if(value.length != length){
+                    throw new IllegalArgumentException("Record must be "
+                        + length + " bytes, not " + value.length);
+                }
+
+                for(int i = 0; i < length; i++){
+                    buffer.put(offset + i, value[i]);
+                }
+            }
+
+            @Override
+            public byte[] read(ByteBuffer buffer, int offset){
+                byte[] retVal = new byte[length];
+                for(int i = 0; i < length; i++){
+                    retVal[i] = buffer.get(offset + i);
+                }
+                return retVal;
+            }
+        };
+    }
+}
@@ -0,0 +1,504 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * RingBuffer is a version of our list that keeps its items in one array
+ * used as a circle instead of in a chain of nodes. It behaves the same as
+ * List: index zero is the first item appended and append adds at the
+ * other end.
+ *
+ * The items sit one after another from the slot of index zero, wrapping
+ * round to the start of the array. The array length is always a power of
+ * two so an index becomes a slot with a mask instead of a division. Both
+ * ends are reached without any traversal, so appending and removing at
+ * either end and getting any index take constant time, and there is no
+ * node object per item for the garbage collector to trace. The array
+ * doubles when it fills and halves when it drops to a quarter full, but
+ * never shrinks below the capacity it was made with, so a list that
+ * holds a steady number of items stops allocating altogether.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class RingBuffer<T> implements Iterable<T>
+{
+    //Slots made by the no argument constructor
+    private static final int DEFAULT_CAPACITY = 16;
+
+    //Items from index zero up, starting at slot first and wrapping round
+    private Object[] items;
+
+    //Array length less one, masks an index into a slot
+    private int mask;
+
+    //Slot holding index zero
+    private int first = 0;
+
+    //Number of items in the list
+    private int count = 0;
+
+    //Slots the array never shrinks below
+    private final int minCapacity;
+
+    //Bumped whenever an item is added or removed so iterators can tell
+    //the list changed underneath them
+    private int modCount = 0;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    /**
+     * No argument constructor creates an empty list with room for a few
+     * items before the array needs to grow.
+     */
+    public RingBuffer(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Capacity argument constructor creates an empty list with room for
+     * at least the given number of items, rounded up to a power of two.
+     * The array never shrinks below this.
+     *
+     * @param int capacity number of slots to start with
+     */
+    public RingBuffer(int capacity){
+        int slots = Integer.highestOneBit(Math.max(2, capacity));
+        if(slots < capacity){
+            slots <<= 1;
+        }
+
+        items = new Object[slots];
+        mask = slots - 1;
+        minCapacity = slots;
+    }
+
+    /**
+     * Append will add an item to the end of the list, doubling the array
+     * first if it's full.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     */
+    public void append(T next){
+        if(count == items.length){
+            resize(items.length * 2);
+        }
+
+        items[(first + count) & mask] = next;
+        count++;
+        modCount++;
+    }
+
+    /**
+     * resize copies the items into a new array with index zero at slot
+     * zero. The items are copied in at most two runs.
+     *
+     * @param int length slots in the new array, a power of two
+     * @return Nothing
+     */
+    private void resize(int length){
+        Object[] resized = new Object[length];
+        int run = Math.min(count, items.length - first);
+
+        System.arraycopy(items, first, resized, 0, run);
+        System.arraycopy(items, 0, resized, run, count - run);
+
+        items = resized;
+        mask = length - 1;
+        first = 0;
+    }
+
+    /**
+     * Size will return the number of items in the list.
+     *
+     * @return int size is the number of items in the list
+     */
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the count.
+     *
+     * @return boolean true if list is empty
+     */
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * capacity gives the number of slots in the array now.
+     *
+     * @return int slots in the array
+     */
+    public int capacity(){
+        return items.length;
+    }
+
+    /**
+     * insert will put an item at a specified index position as long as
+     * it's valid. If the list is empty or the index is the size the item
+     * is appended, otherwise the item at the index is replaced.
+     *
+     * @param T next item to be added at index
+     * @param int index where the item should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    public void insert(T next, int index){
+        //check index
+        if(!insideRange(index, "Failed to insert object: ")){
+            return;
+        }
+
+        if(count == 0 || index == count){
+            //empty list or index chosen to be new head so append
+            append(next);
+        }
+        else{
+            items[(first + index) & mask] = next;
+        }
+    }
+
+    /**
+     * Delete will delete the item at a given index without returning it.
+     *
+     * @param int index of item to be deleted
+     * @return Nothing
+     */
+    public void delete(int index){
+        //check index range
+        if(!insideRange(index, "Failed to delete node: ")){
+            return;
+        }
+
+        if(count == 0){
+            fail("Failed to delete node: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            fail("Failed to delete node: ", "Outside of list range");
+        }
+        else{
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     *
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will take the item at a specified index out of the list and
+     * return it.
+     *
+     * @param int index of item to remove
+     * @return T item at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    public T remove(int index){
+        //check index range
+        if(!insideRange(index, "Failed to remove node: ")){
+            return null;
+        }
+
+        if(count == 0){
+            fail("Failed to remove node: ", "Can't remove from empty " +
+                " list");
+            return null;
+        }
+        else if(index == count){
+            fail("Failed to remove node: ", "Outside of list range");
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * tryRemove will take the item at a specified index like remove does,
+     * but never reports an invalid index whatever the error policy is.
+     *
+     * @param int index of item to remove
+     * @return T item at specified index, null if index is invalid
+     */
+    public T tryRemove(int index){
+        if(index < 0 || index >= count){
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * get will return the item at a specified index without changing the
+     * list. The slot is worked out from the index, so nothing is walked.
+     *
+     * @param int index of item to read
+     * @return T item at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index){
+        //check index range
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == count){
+            fail("Failed to get node: ", "Outside of list range");
+            return null;
+        }
+
+        return (T) items[(first + index) & mask];
+    }
+
+    /**
+     * shiftList will take out the item at a specified index by moving
+     * the items on whichever side of it is shorter over by one slot.
+     * Removing from either end moves nothing. The array is halved when
+     * it drops to a quarter full.
+     *
+     * @param int index of item to take out
+     * @return T item that was at the index
+     */
+    @SuppressWarnings("unchecked")
+    private T shiftList(int index){
+        T retVal = (T) items[(first + index) & mask];
+
+        if(index < count / 2){
+            //Closer to index zero so move the items below it up
+            for(int i = index; i > 0; i--){
+                items[(first + i) & mask] = items[(first + i - 1) & mask];
+            }
+            items[first] = null;
+            first = (first + 1) & mask;
+        }else{
+            //Closer to the end so move the items above it down
+            for(int i = index; i < count - 1; i++){
+                items[(first + i) & mask] = items[(first + i + 1) & mask];
+            }
+            items[(first + count - 1) & mask] = null;
+        }
+
+        count--;
+        modCount++;
+
+        if(count <= items.length / 4 && items.length > minCapacity){
+            resize(items.length / 2);
+        }
+
+        return retVal;
+    }
+
+    /**
+     * clear will empty the list and go back to the capacity it was made
+     * with.
+     *
+     * @return Nothing
+     */
+    public void clear(){
+        items = new Object[minCapacity];
+        mask = minCapacity - 1;
+        first = 0;
+        count = 0;
+        modCount++;
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to.
+     *
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * iterator returns an iterator over the list from index zero up. It
+     * throws a ConcurrentModificationException if an item is added or
+     * removed while it is in use.
+     *
+     * @return Iterator over the items in index order
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private int next = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext(){
+                return next < count;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next(){
+                if(modCount != expectedModCount){
+                    throw new ConcurrentModificationException();
+                }
+                if(next >= count){
+                    throw new NoSuchElementException();
+                }
+
+                return (T) items[(first + next++) & mask];
+            }
+        };
+    }
+
+    /**
+     * toString will enumerate the list from the head and return it as a
+     * string with items separated by white space, like List.
+     *
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(int i = count - 1; i >= 0; i--){
+            retVal.append(String.valueOf(items[(first + i) & mask]))
+                .append(' ');
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * indexOf will find the highest index holding the target item.
+     *
+     * @param T target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    public int indexOf(T target){
+        for(int i = count - 1; i >= 0; i--){
+            if(Objects.equals(items[(first + i) & mask], target)){
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public static void main(String[] args){
+        RingBuffer<Integer> a = new RingBuffer<Integer>(3);
+
+        //Size, Append, Insert Tests
+        System.out.println("\n Size/Removal/Insert Tests \n");
+        assert(a.size() == 0 && a.isEmpty()): "List should be empty";
+        assert(a.capacity() == 4): "capacity should round up to 4";
+
+        a.append(1);
+        a.insert(2, 1);
+        a.insert(1, -1);
+        assert(a.size() == 2): "Insert OOB: Size shouldn't change.";
+        a.append(3);
+        a.append(4);
+        a.insert(40, 3);
+        a.append(5);
+        assert(a.size() == 5 && a.capacity() == 8): "full array should grow";
+        assert(a.get(2) == 3 && a.get(5) == null): "get should read index";
+        System.out.println(a.toString());
+
+        //Removal Tests
+        System.out.println("\n Removal Tests \n");
+        assert(a.remove(3) == 40): "Index 3 should equal 40";
+        assert(a.remove(0) == 1): "Index 0 should equal 1";
+        assert(a.remove(-1) == null): "Removal should return null";
+        assert(a.tryRemove(5) == null): "tryRemove should miss quietly";
+        assert(a.toString().equals("5 3 2 ")): "items should close up";
+        a.delete(1);
+        assert(a.size() == 2 && a.capacity() == 4): "quarter full shrinks";
+        a.delete(5);
+        a.clear();
+        assert(a.isEmpty() && a.indexOf(5) == -1): "List should be empty";
+
+        //Items wrap round the end of the array without growing it
+        for(int i = 0; i < 3; i++){
+            a.append(i);
+        }
+        for(int i = 3; i < 1000; i++){
+            assert(a.remove(0) == i - 3): "oldest should come out first";
+            a.append(i);
+        }
+        assert(a.capacity() == 4 && a.indexOf(998) == 1): "wrapped around";
+
+        //Random changes should match a List
+        Random random = new Random(5);
+        RingBuffer<Integer> ring = new RingBuffer<Integer>();
+        List<Integer> list = new List<Integer>();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(5);
+            if(op < 2 || list.isEmpty()){
+                ring.append(step);
+                list.append(step);
+            }
+            else if(op == 2){
+                int index = random.nextInt(list.size());
+                ring.insert(-step, index);
+                list.insert(-step, index);
+            }
+            else{
+                int index = random.nextInt(list.size());
+                assert(Objects.equals(ring.remove(index), list.remove(index))):
+                    "remove should match";
+            }
+        }
+        assert(ring.toString().equals(list.toString())): "should match List";
+        int expected = 0;
+        for(int item : ring){
+            assert(item == list.get(expected++)): "iterator index order";
+        }
+
+        //Iterators fail fast
+        Iterator<Integer> walking = ring.iterator();
+        ring.append(1);
+        try{
+            walking.next();
+            assert(false): "iterator should fail fast";
+        }catch(ConcurrentModificationException e){
+            System.out.println("Fail fast: " + e);
+        }
+    }
+}
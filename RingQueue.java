@@ -0,0 +1,144 @@
+/**
+ * RingQueue is the queue version of RingBuffer. The first item in is the
+ * first item out, and both ends are reached without walking any nodes.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class RingQueue<T> extends RingBuffer<T>
+{
+    /**
+     * No argument constructor creates a new empty queue.
+     */
+    public RingQueue(){
+        super();
+    }
+
+    /**
+     * Capacity argument constructor creates a new empty queue with room
+     * for at least the given number of items before it needs to grow.
+     * 
+     * @param int capacity number of slots to start with
+     */
+    public RingQueue(int capacity){
+        super(capacity);
+    }
+
+    /**
+     * enqueue will add an item to the head of the queue
+     * 
+     * @param T item to be added to queue
+     */
+    public void enqueue(T next){
+        this.append(next);
+    }
+
+    /**
+     * dequeue will return the item at the tail of the queue. Also known
+     * as the first item enqueued.
+     * 
+     * @return T at tail of list, null if the queue is empty
+     */
+    public T dequeue(){
+        if(this.isEmpty()){
+            fail("Dequeue Failed: ", "empty queue");
+            return null;
+        }
+
+        return super.remove(0);
+    }
+
+    /**
+     * poll will return the item at the tail of the queue like dequeue,
+     * but an empty queue is never reported whatever the error policy is.
+     * 
+     * @return T at tail of list, null if the queue is empty
+     */
+    public T poll(){
+        return super.tryRemove(0);
+    }
+
+    /**
+     * Override the insert method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param T item to be added
+     * @param int of index
+     */
+    @Override
+    public void insert(T a, int n){
+        enqueue(a);
+    }
+
+    /**
+     * Override the remove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T remove(int index){
+        return dequeue();
+    }
+
+    /**
+     * Override the tryRemove method from superclass to maintain the list
+     * characteristics of a queue FIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T tryRemove(int index){
+        return poll();
+    }
+
+    /**
+     * Override delete method because it would compromise the queue data
+     * structure.
+     * 
+     * @int index
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void delete(int index){
+        fail("", "Delete not usable in queue");
+    }
+
+    public static void main(String[] args){
+        RingQueue<Integer> a = new RingQueue<Integer>(4);
+        a.enqueue(10);
+        a.enqueue(20);
+        a.insert(30, 7);
+        System.out.println("a after en: " + a.toString());
+
+        assert(a.size() == 3): "size should be 3";
+        assert(a.dequeue() == 10): "first in should be 10";
+        assert(a.remove(5) == 20): "next should be 20";
+        assert(a.poll() == 30): "next should be 30";
+        assert(a.isEmpty()): "a should be empty";
+        assert(a.dequeue() == null): "empty dequeue should be null";
+        assert(a.poll() == null): "empty poll should be null";
+
+        a.delete(1);
+
+        //A steady number of items cycles through the same array
+        for(int i = 0; i < 100; i++){
+            a.enqueue(i);
+        }
+        int capacity = a.capacity();
+        for(int i = 0; i < 100000; i++){
+            assert(a.dequeue() == i): "queue should be FIFO";
+            a.enqueue(i + 100);
+        }
+        assert(a.capacity() == capacity): "array should hold steady";
+
+        //Draining shrinks the array back down
+        int drained = 0;
+        while(a.poll() != null){
+            drained++;
+        }
+        assert(drained == 100 && a.capacity() == 4): "drained queue shrinks";
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * RingStack is the stack version of RingBuffer. The last item in is the
+ * first item out, and the top is reached without walking any nodes.
+ * 
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class RingStack<T> extends RingBuffer<T>
+{
+    /**
+     * No argument constructor creates a new empty stack.
+     */
+    public RingStack(){
+        super();
+    }
+
+    /**
+     * Capacity argument constructor creates a new empty stack with room
+     * for at least the given number of items before it needs to grow.
+     * 
+     * @param int capacity number of slots to start with
+     */
+    public RingStack(int capacity){
+        super(capacity);
+    }
+
+    /**
+     * push adds a new item to the top of the stack.
+     * 
+     * @param T to be added
+     * @return Nothing
+     */
+    public void push(T next){
+        append(next);
+    }
+
+    /**
+     * Pop will return the item at the top of the stack.
+     * 
+     * @return T from the top of the stack, null if the stack is empty
+     * @exception reported by the error policy when the stack is empty
+     */
+    public T pop(){
+        if(this.isEmpty()){
+            fail("Failed to pop: ", "Empty stack");
+            return null;
+        }
+
+        return super.remove(this.size() - 1);
+    }
+
+    /**
+     * tryPop will return the item at the top of the stack like pop, but
+     * an empty stack is never reported whatever the error policy is.
+     * 
+     * @return T from the top of the stack, null if the stack is empty
+     */
+    public T tryPop(){
+        return super.tryRemove(this.size() - 1);
+    }
+
+    /**
+     * Override the remove method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T remove(int index){
+        return pop();
+    }
+
+    /**
+     * Override the tryRemove method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T tryRemove(int index){
+        return tryPop();
+    }
+
+    /**
+     * Override the insert method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param T to be added
+     * @param int of index
+     */
+    @Override
+    public void insert(T a, int n){
+        push(a);
+    }
+
+    /**
+     * Override delete method because it would compromise the stack data
+     * structure.
+     * 
+     * @int index
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void delete(int index){
+        fail("", "Delete not usable in stack");
+    }
+
+    public static void main(String[] args){
+        RingStack<Integer> a = new RingStack<Integer>(2);
+        a.push(1);
+        a.push(2);
+        a.insert(3, 9);
+        System.out.println("a after push: " + a.toString());
+
+        assert(a.size() == 3 && a.capacity() == 4): "full stack grows";
+        assert(a.pop() == 3): "pop should return 3";
+        assert(a.remove(0) == 2): "remove should pop 2";
+        assert(a.tryPop() == 1): "tryPop should return 1";
+        assert(a.isEmpty()): "a should be empty";
+        assert(a.pop() == null): "empty pop should be null";
+        assert(a.tryPop() == null): "empty tryPop should be null";
+
+        a.delete(1);
+
+        //Pushes after pops reuse the slots the pops freed
+        for(int i = 0; i < 16; i++){
+            a.push(i);
+        }
+        int capacity = a.capacity();
+        for(int i = 0; i < 10000; i++){
+            int top = a.pop();
+            a.push(top + 1);
+        }
+        assert(a.capacity() == capacity): "array should hold steady";
+        assert(a.pop() == 10015): "top should have counted up";
+    }
+}
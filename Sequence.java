@@ -0,0 +1,101 @@
+/**
+ * Sequence is what List, UnrolledList and IndexedSkipList have in common:
+ * items kept in the order they were appended, with index zero the first
+ * one appended. Code written against it can be handed whichever of them
+ * suits the work, e.g. an UnrolledList for long scans with indexOf or an
+ * IndexedSkipList for many reads by index.
+ *
+ * Asking for something outside the sequence, like removing past the end,
+ * is reported through the sequence's error policy.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public interface Sequence<T>
+{
+    /**
+     * append adds an item after the last one.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     */
+    void append(T next);
+
+    /**
+     * insert changes the item at an index, or appends when the index is
+     * the size.
+     *
+     * @param T next item to be put at index
+     * @param int index where the item should go
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    void insert(T next, int index);
+
+    /**
+     * delete takes out the item at an index without returning it.
+     *
+     * @param int index of item to be deleted
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    void delete(int index);
+
+    /**
+     * remove takes out the item at an index and returns it.
+     *
+     * @param int index of item to remove
+     * @return T item at index, null if index is invalid
+     * @exception reported by the error policy when index outside of range
+     */
+    T remove(int index);
+
+    /**
+     * get returns the item at an index without changing the sequence.
+     *
+     * @param int index of item to read
+     * @return T item at index, null if index is invalid
+     * @exception reported by the error policy when index outside of range
+     */
+    T get(int index);
+
+    /**
+     * indexOf finds the highest index holding an item equal to the
+     * target.
+     *
+     * @param Object target to look for
+     * @return int index of target, -1 if it isn't in the sequence
+     */
+    int indexOf(Object target);
+
+    /**
+     * size returns the number of items in the sequence.
+     *
+     * @return int number of items
+     */
+    int size();
+
+    /**
+     * isEmpty checks to see if the sequence has no items.
+     *
+     * @return boolean true if sequence is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * setErrorPolicy picks what the sequence does when an operation can't
+     * be done.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    void setErrorPolicy(ErrorPolicy policy);
+
+    /**
+     * getErrorPolicy returns what the sequence does when an operation
+     * can't be done.
+     *
+     * @return ErrorPolicy policy in use
+     */
+    ErrorPolicy getErrorPolicy();
+}
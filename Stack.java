@@ -1,3 +1,9 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.Collection;
+
 /**
  * Stack will be an implementation of the stack ADT using the linked list
  * we built in the first portion of the assignment as a super class. A stack 
@@ -8,7 +14,7 @@
  * @author Connor Teal
  * @version February 15, 2017
  */
-public class Stack extends List
+public class Stack<T> extends List<T>
 {
     /**
      * Default constructor will create a new empty stack. It does so by
@@ -22,55 +28,110 @@ public class Stack extends List
      * push adds a new data item to the stack. It does so using the list
      * method append.
      * 
-     * @param Object to be added
+     * @param T to be added
      * @return Nothing
      */
-    public void push(Object next){
+    public void push(T next){
         append(next);
     }
     
+    /**
+     * pushAll adds every item to the stack in the order they are given,
+     * linking them on in one step. The last item ends up on top.
+     * 
+     * @param Iterable items to be added
+     * @return Nothing
+     */
+    public void pushAll(Iterable<? extends T> items){
+        appendAll(items);
+    }
+
     /**
      * Pop will return the item at the top of the stack.
      * 
-     * @return Object from the top of the stack
+     * @return T from the top of the stack
      * @exception when trying to pop from empty stack
      */
-    public Object pop(){
-        try{
-            //If empty throw an exception
-            if(this.isEmpty()){
-                throw new LinkedListException("Empty stack");
-            }
-            
-            //Return the head of the list
-            return super.remove(this.size() - 1);
-        }catch(LinkedListException e){
-            System.err.println("Failed to pop: " + e.getMessage());
+    public T pop(){
+        //If empty report it
+        if(this.isEmpty()){
+            fail("Failed to pop: ", "Empty stack");
+            return null;
         }
-        return null;
+
+        //Return the head of the list
+        return super.remove(this.size() - 1);
     }
-    
+
+    /**
+     * tryPop will return the item at the top of the stack like pop, but
+     * an empty stack is never reported whatever the error policy is.
+     * 
+     * @return T from the top of the stack, null if the stack is empty
+     */
+    public T tryPop(){
+        return super.tryRemove(this.size() - 1);
+    }
+
+    /**
+     * pop with a count will take up to that many items from the top of
+     * the stack at once. The run of nodes is cut off in one piece and
+     * returned as a new stack that will pop them in the same order.
+     * 
+     * @param int max most items to take
+     * @return Stack of the items taken, empty if there were none
+     */
+    public Stack<T> pop(int max){
+        Stack<T> retVal = new Stack<T>();
+        detachHead(max, retVal);
+        return retVal;
+    }
+
+    /**
+     * drainTo will move every item into a collection, from the top of the
+     * stack down, and leave the stack empty.
+     * 
+     * @param Collection target to add the items to
+     * @return int number of items moved
+     */
+    @Override
+    public int drainTo(Collection<? super T> target){
+        return drain(target, true);
+    }
+
     /**
      * Override the remove method from superclass to maintain the list
      * characteristics of a Stack LIFO
      * 
      * @param int of index
-     * @return Object
+     * @return T
      */
     @Override
-    public Object remove(int index){
+    public T remove(int index){
         return pop();
     }
+
+    /**
+     * Override the tryRemove method from superclass to maintain the list
+     * characteristics of a Stack LIFO
+     * 
+     * @param int of index
+     * @return T
+     */
+    @Override
+    public T tryRemove(int index){
+        return tryPop();
+    }
     
     /**
      * Override the insert method from superclass to maintain the list
      * characteristics of a Stack LIFO
      * 
-     * @param Object to be added
+     * @param T to be added
      * @param int of index
      */
     @Override
-    public void insert(Object a, int n){
+    public void insert(T a, int n){
         push(a);
     }
     
@@ -79,20 +140,56 @@ public class Stack extends List
      * structure.
      * 
      * @int index
-     * @exception when called
+     * @exception reported by the error policy when called
      */
     public void delete(int index){
-        try{
-            throw new LinkedListException("Delete not usable in stack");
-        }catch(LinkedListException e){
-            System.err.println(e.getMessage());
-        }
+        fail("", "Delete not usable in stack");
+    }
+
+    /**
+     * Override sort method because putting the items in a new order would
+     * compromise the stack data structure.
+     * 
+     * @param Comparator order that would have been used
+     * @return Nothing
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public void sort(Comparator<? super T> order){
+        fail("", "Sort not usable in stack");
+    }
+
+    /**
+     * Override cursor method because a cursor could add or remove items
+     * anywhere, which would compromise the stack data structure.
+     * 
+     * @return Cursor null, there is no cursor over a stack
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public Cursor cursor(){
+        fail("", "Cursor not usable in stack");
+        return null;
+    }
+
+    /**
+     * Override removeIf method because taking items out of the middle
+     * would compromise the stack data structure.
+     * 
+     * @param Predicate test that would have picked the items
+     * @return int zero, nothing is removed
+     * @exception reported by the error policy when called
+     */
+    @Override
+    public int removeIf(Predicate<? super T> test){
+        fail("", "removeIf not usable in stack");
+        return 0;
     }
     
     public static void main(String[] args){
-        Stack empty = new Stack();
-        Stack one = new Stack();
-        Stack multiple = new Stack();
+        Stack<Integer> empty = new Stack<Integer>();
+        Stack<Integer> one = new Stack<Integer>();
+        Stack<Integer> multiple = new Stack<Integer>();
         
         one.push(1);
         
@@ -112,8 +209,8 @@ public class Stack extends List
         System.out.println("One after pop: " + one.toString());
         System.out.println("Multiple after pop: " + multiple.toString());
         
-        Stack a = new Stack();
-        Stack b = new Stack();
+        Stack<Integer> a = new Stack<Integer>();
+        Stack<Integer> b = new Stack<Integer>();
         
         a.push(1);
         a.push(2);
@@ -143,5 +240,56 @@ public class Stack extends List
         System.out.println("a after remove all: " + a.toString());
         
         a.delete(1);
+
+        //Bulk Tests
+        a.pushAll(Arrays.asList(1, 2, 3, 4, 5));
+        Stack<Integer> batch = a.pop(3);
+        assert(batch.size() == 3 && a.size() == 2): "3 should move";
+        assert(batch.pop() == 5 && batch.pop() == 4): "LIFO batch";
+        assert(a.pop() == 2): "top should now be 2";
+        assert(a.pop(10).size() == 1 && a.isEmpty()): "batch takes the rest";
+
+        a.pushAll(Arrays.asList(6, 7));
+        ArrayList<Integer> drained = new ArrayList<Integer>();
+        assert(a.drainTo(drained) == 2): "drain should move 2 items";
+        assert(drained.get(0) == 7): "drain should be LIFO";
+        System.out.println("a after drain: " + a.toString());
+
+        //Error Policy Tests
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.pop() == null && a.remove(0) == null): "silent miss";
+        a.delete(0);
+        assert(a.tryPop() == null): "tryPop on empty stack should be null";
+        a.push(8);
+        a.push(9);
+        assert(a.tryPop() == 9 && a.tryRemove(5) == 8): "tryPop is LIFO";
+
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            a.pop();
+            assert(false): "pop on empty stack should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Empty stack")): "throw message";
+        }
+        assert(a.tryPop() == null): "tryPop never throws";
+
+        //Reordering would break the stack order, so sort is refused
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        a.push(5);
+        a.push(6);
+        try{
+            a.sort(Comparator.reverseOrder());
+            assert(false): "sort should be refused";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Sort not usable in stack")):
+                "sort message";
+        }
+        assert(a.toString().equals("6 5 ")): "order unchanged";
+
+        //Cursors and removeIf could edit the middle, so they're refused too
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.cursor() == null): "cursor should be refused";
+        assert(a.removeIf((item) -> item == 5) == 0
+            && a.toString().equals("6 5 ")): "removeIf should be refused";
     }
 }
@@ -0,0 +1,441 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.IntConsumer;
+
+/**
+ * StripedQueue gives each producer thread a stripe of its own to add to,
+ * so producers never touch the same memory when they enqueue. A thread is
+ * given its stripe the first time it enqueues and keeps it, so the items
+ * from one producer come out in the order it added them. There is no
+ * order between items from different producers. A stripe left by a thread
+ * that has ended is handed to the next new producer, so there are never
+ * more stripes than producers that were running at once.
+ *
+ * Only its owner adds to a stripe, so an enqueue is two plain writes
+ * with no compare and set. Consumers take from the stripes in turn,
+ * starting where the last take left off, with a compare and set on the
+ * front of the stripe, and drainTo moves a batch from each stripe before
+ * going on to the next one. The front and end of each stripe are padded
+ * apart so a consumer taking from a stripe doesn't keep pulling the cache
+ * line its producer is writing.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class StripedQueue<T>
+{
+    /**
+     * Node is the link in a stripe. The link is volatile so an item
+     * linked by the producer is seen completely by the consumers.
+     */
+    private static class Node<T>
+    {
+        private T data;
+        private volatile Node<T> link;
+
+        /**
+         * Data argument constructor creates a node that isn't linked yet.
+         *
+         * @param T data object to set
+         */
+        public Node(T data){
+            this.data = data;
+        }
+    }
+
+    /**
+     * Front holds the consumers' end of a stripe. The JVM lays out a
+     * superclass's fields before its subclass's, so the padding here and
+     * in the classes below keeps the front, the end and the next stripe's
+     * fields on different cache lines.
+     */
+    private static class Front<T>
+    {
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        //Dummy node in front of the next item to take
+        volatile Node<T> first;
+    }
+
+    /**
+     * FrontPad pads the front of a stripe away from its end.
+     */
+    private static class FrontPad<T> extends Front<T>
+    {
+        private long q1, q2, q3, q4, q5, q6, q7, q8;
+    }
+
+    /**
+     * Stripe is a queue with one producer and any number of consumers.
+     */
+    private static class Stripe<T> extends FrontPad<T>
+    {
+        //Most recently added node, only used by the owner
+        private Node<T> last;
+
+        //Thread adding to the stripe
+        private Thread owner;
+
+        private long r1, r2, r3, r4, r5, r6, r7, r8;
+
+        /**
+         * Owner argument constructor creates an empty stripe made of just
+         * the dummy node.
+         *
+         * @param Thread owner thread that will add to the stripe
+         */
+        public Stripe(Thread owner){
+            Node<T> dummy = new Node<T>(null);
+            first = dummy;
+            last = dummy;
+            this.owner = owner;
+        }
+
+        /**
+         * add links an item after the last node. Only the owner calls it.
+         *
+         * @param T next item to add
+         * @return Nothing
+         */
+        public void add(T next){
+            Node<T> node = new Node<T>(next);
+            last.link = node;
+            last = node;
+        }
+
+        /**
+         * poll takes the item after the dummy node, which becomes the new
+         * dummy. Consumers race for it with a compare and set.
+         *
+         * @return T item taken, null if the stripe was empty
+         */
+        @SuppressWarnings("unchecked")
+        public T poll(){
+            while(true){
+                Node<T> front = first;
+                Node<T> after = front.link;
+
+                if(after == null){
+                    return null;
+                }
+                if(FIRST.compareAndSet(this, front, after)){
+                    T retVal = after.data;
+                    after.data = null;
+                    return retVal;
+                }
+            }
+        }
+
+        /**
+         * size counts the nodes after the dummy node.
+         *
+         * @return int number of items in the stripe
+         */
+        public int size(){
+            int retVal = 0;
+            for(Node<T> position = first.link; position != null;
+                position = position.link){
+                retVal++;
+            }
+            return retVal;
+        }
+    }
+
+    //Moves the front of a stripe without a wrapper object
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Front, Node> FIRST =
+        AtomicReferenceFieldUpdater.newUpdater(Front.class, Node.class,
+            "first");
+
+    //Every stripe handed out so far, replaced whole when one is added
+    private volatile Stripe<T>[] stripes;
+
+    //Stripe of the calling thread
+    private final ThreadLocal<Stripe<T>> own =
+        ThreadLocal.withInitial(this::register);
+
+    //Stripe the next take starts from. Races between consumers only
+    //change where a take starts, so it isn't kept exactly
+    private int next = 0;
+
+    //What an empty dequeue does
+    private volatile ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    /**
+     * No argument constructor creates an empty queue. Stripes are made as
+     * producers turn up.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StripedQueue(){
+        stripes = new Stripe[0];
+    }
+
+    /**
+     * enqueue will add an item to the end of the calling thread's stripe.
+     *
+     * @param T next item to be added to queue
+     * @return Nothing
+     */
+    public void enqueue(T next){
+        own.get().add(next);
+    }
+
+    /**
+     * register gives a thread its stripe the first time it enqueues. A
+     * stripe whose owner has ended is taken over, items and all, since
+     * nothing can be adding to it any more. Otherwise a new stripe is
+     * added.
+     *
+     * @return Stripe the calling thread adds to from now on
+     */
+    private synchronized Stripe<T> register(){
+        Thread thread = Thread.currentThread();
+
+        for(Stripe<T> stripe : stripes){
+            if(!stripe.owner.isAlive()){
+                stripe.owner = thread;
+                return stripe;
+            }
+        }
+
+        Stripe<T> retVal = new Stripe<T>(thread);
+        Stripe<T>[] grown = Arrays.copyOf(stripes, stripes.length + 1);
+        grown[stripes.length] = retVal;
+        stripes = grown;
+        return retVal;
+    }
+
+    /**
+     * dequeue will return an item from the first stripe that has one,
+     * trying the stripes in turn.
+     *
+     * @return T from the front of a stripe, null if every stripe was empty
+     * @exception reported by the error policy when the queue is empty
+     */
+    public T dequeue(){
+        T retVal = poll();
+
+        if(retVal == null){
+            errorPolicy.report("Dequeue Failed: ", "empty queue");
+        }
+
+        return retVal;
+    }
+
+    /**
+     * poll will return an item from the first stripe that has one like
+     * dequeue, but an empty queue is never reported whatever the error
+     * policy is.
+     *
+     * @return T from the front of a stripe, null if every stripe was empty
+     */
+    public T poll(){
+        Stripe<T>[] all = stripes;
+        int start = next;
+
+        for(int i = 0; i < all.length; i++){
+            int stripe = (start + i) % all.length;
+            T retVal = all[stripe].poll();
+
+            if(retVal != null){
+                next = stripe + 1;
+                return retVal;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * drainTo moves up to the given number of items into a collection. It
+     * takes up to batch items from a stripe before going on to the next
+     * one, so each producer's items stay in order in the collection.
+     *
+     * @param Collection target to add the items to
+     * @param int max most items to move
+     * @param int batch most items to take from one stripe at a time
+     * @return int number of items moved
+     */
+    public int drainTo(Collection<? super T> target, int max, int batch){
+        Stripe<T>[] all = stripes;
+        int stripe = next;
+        int moved = 0;
+        int emptyRun = 0;
+
+        for(; moved < max && emptyRun < all.length; stripe++){
+            Stripe<T> from = all[stripe % all.length];
+            int taken = 0;
+
+            for(T item = null; moved < max && taken < batch
+                && (item = from.poll()) != null; taken++){
+                target.add(item);
+                moved++;
+            }
+
+            //Stop once every stripe in a row has come up empty
+            emptyRun = taken == 0 ? emptyRun + 1 : 0;
+        }
+
+        next = all.length == 0 ? 0 : stripe % all.length;
+        return moved;
+    }
+
+    /**
+     * isEmpty checks whether every stripe is empty. With other threads
+     * running the answer may be out of date as soon as it returns.
+     *
+     * @return boolean true if queue is empty
+     */
+    public boolean isEmpty(){
+        for(Stripe<T> stripe : stripes){
+            if(stripe.first.link != null){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * size adds up the sizes of the stripes. Like ConcurrentQueue it
+     * traverses them, and is only an estimate while other threads are
+     * changing the queue.
+     *
+     * @return int number of items in the queue
+     */
+    public int size(){
+        int retVal = 0;
+        for(Stripe<T> stripe : stripes){
+            retVal += stripe.size();
+        }
+        return retVal;
+    }
+
+    /**
+     * stripes returns how many stripes have been handed to producers.
+     *
+     * @return int number of stripes
+     */
+    public int stripes(){
+        return stripes.length;
+    }
+
+    /**
+     * setErrorPolicy picks what dequeue does on an empty queue. It starts
+     * out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * throughput has each producer enqueue its share of items at the same
+     * time and returns the enqueues per second.
+     *
+     * @param int producers number of producer threads
+     * @param int perProducer items each producer adds
+     * @param IntConsumer sink adds one item, called by many threads at
+     *     once
+     * @return long enqueues per second
+     * @throws InterruptedException if interrupted waiting for threads
+     */
+    private static long throughput(int producers, final int perProducer,
+        final IntConsumer sink) throws InterruptedException{
+        Thread[] threads = new Thread[producers];
+        for(int p = 0; p < producers; p++){
+            threads[p] = new Thread(() -> {
+                for(int i = 0; i < perProducer; i++){
+                    sink.accept(i);
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        return (long) producers * perProducer * 1000000000L
+            / (System.nanoTime() - start);
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        StripedQueue<Integer> a = new StripedQueue<Integer>();
+        assert(a.stripes() == 0): "stripes are made by producers";
+        assert(a.isEmpty() && a.poll() == null): "new queue should be empty";
+        a.dequeue();
+
+        a.enqueue(1);
+        a.enqueue(2);
+        a.enqueue(3);
+        assert(a.size() == 3): "size should be 3";
+        assert(a.dequeue() == 1 && a.poll() == 2): "one producer is FIFO";
+
+        ArrayList<Integer> drained = new ArrayList<Integer>();
+        assert(a.drainTo(drained, 10, 4) == 1 && drained.get(0) == 3):
+            "drain should take what's left";
+        assert(a.isEmpty() && a.stripes() == 1): "a should be empty";
+
+        //A stripe left by an ended thread goes to the next producer
+        for(int item = 4; item <= 5; item++){
+            final int value = item;
+            Thread producer = new Thread(() -> a.enqueue(value));
+            producer.start();
+            producer.join();
+        }
+        assert(a.stripes() == 2): "ended producer's stripe should be reused";
+        assert(a.poll() == 4 && a.poll() == 5): "taken over stripe keeps order";
+
+        //Each producer's items should come out in the order it added them
+        final StripedQueue<int[]> shared = new StripedQueue<int[]>();
+        final int producers = 4;
+        final int perProducer = 50000;
+        Thread[] threads = new Thread[producers];
+        for(int p = 0; p < producers; p++){
+            final int id = p;
+            threads[p] = new Thread(() -> {
+                for(int i = 0; i < perProducer; i++){
+                    shared.enqueue(new int[] {id, i});
+                }
+            });
+            threads[p].start();
+        }
+
+        int[] expected = new int[producers];
+        ArrayList<int[]> batch = new ArrayList<int[]>();
+        int taken = 0;
+        while(taken < producers * perProducer){
+            batch.clear();
+            taken += shared.drainTo(batch, 256, 32);
+            for(int[] item : batch){
+                assert(item[1] == expected[item[0]]++): "producer FIFO";
+            }
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        assert(shared.isEmpty()): "every item should be taken";
+
+        //Enqueue throughput against a single queue
+        for(int count = 1; count <= 8; count *= 2){
+            final ConcurrentQueue<Integer> single =
+                new ConcurrentQueue<Integer>();
+            final StripedQueue<Integer> striped =
+                new StripedQueue<Integer>();
+            long singleRate = throughput(count, 500000,
+                (i) -> single.enqueue(i));
+            long stripedRate = throughput(count, 500000,
+                (i) -> striped.enqueue(i));
+            System.out.println(count + " producers, enqueues/s: "
+                + "ConcurrentQueue " + singleRate + ", StripedQueue "
+                + stripedRate);
+        }
+    }
+}
@@ -0,0 +1,545 @@
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * UnrolledList is a version of our list where each node holds a small
+ * array of items instead of a single one. It has the same append, insert,
+ * delete, remove and indexOf methods as List and the same indexes: index
+ * zero is the first item appended.
+ *
+ * Keeping items side by side in an array means a scan follows one link
+ * per chunk rather than one per item, so most of the items it reads are
+ * already in the cache. It also saves a node header and two links for
+ * every item except the first in each chunk.
+ *
+ * Appends fill the last chunk before starting a new one. Removing an item
+ * shifts the rest of its chunk down, and a chunk that falls under half
+ * full is merged with a neighbour when the two fit in one chunk.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class UnrolledList<T> implements Sequence<T>
+{
+    /**
+     * Chunk is a node of the unrolled list. It holds a run of items in
+     * index order along with links to the chunks before and after it.
+     */
+    private class Chunk
+    {
+        private Object[] items;
+        private int used;
+        private Chunk link;
+        private Chunk back;
+
+        /**
+         * No argument constructor creates an empty chunk with room for
+         * the list's chunk size worth of items.
+         */
+        public Chunk(){
+            items = new Object[chunkSize];
+            used = 0;
+            link = null;
+            back = null;
+        }
+    }
+
+    //Items per chunk made by the no argument constructor
+    private static final int DEFAULT_CHUNK_SIZE = 32;
+
+    //Maximum number of items in a chunk
+    private final int chunkSize;
+
+    //Chunk holding the highest indexes, where appends go
+    private Chunk head = null;
+
+    //Chunk holding index zero
+    private Chunk tail = null;
+
+    //Number of items in the list
+    private int count = 0;
+
+    //What the list does when asked for something it can't do
+    private ErrorPolicy errorPolicy = ErrorPolicy.LOG;
+
+    //Position inside the chunk found by the last call to chunkAt
+    private int offset = 0;
+
+    /**
+     * No argument constructor creates an empty list with the default
+     * chunk size.
+     */
+    public UnrolledList(){
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Chunk size argument constructor creates an empty list whose chunks
+     * hold up to the given number of items.
+     *
+     * @param int chunkSize items per chunk, at least two
+     */
+    public UnrolledList(int chunkSize){
+        this.chunkSize = Math.max(2, chunkSize);
+    }
+
+    /**
+     * Append will add an item to the end of the list. It goes in the head
+     * chunk unless that chunk is full, in which case a new chunk is linked
+     * in front of it.
+     *
+     * @param T next object to be added
+     * @return Nothing
+     */
+    @Override
+    public void append(T next){
+        if(head == null || head.used == chunkSize){
+            Chunk chunk = new Chunk();
+
+            if(head == null){
+                tail = chunk;
+            }else{
+                head.back = chunk;
+                chunk.link = head;
+            }
+
+            head = chunk;
+        }
+
+        head.items[head.used++] = next;
+        count++;
+    }
+
+    /**
+     * Size will return the number of items in the list.
+     *
+     * @return int size is the number of objects in the list
+     */
+    @Override
+    public int size(){
+        return count;
+    }
+
+    /**
+     * isEmpty checks to see if the list is empty by looking at the count.
+     *
+     * @return boolean true if list is empty
+     */
+    @Override
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    /**
+     * insert will put an object at a specified index position as long as
+     * it's valid. If the list is empty or the index is the size the object
+     * is appended, otherwise the object at the index is changed.
+     *
+     * @param T next object to be added at index
+     * @param int index where the object should be changed
+     * @return Nothing
+     * @exception reported by the error policy when index outside of range
+     */
+    @Override
+    public void insert(T next, int index){
+        //check index
+        if(!insideRange(index, "Failed to insert object: ")){
+            return;
+        }
+
+        if(count == 0 || index == count){
+            append(next);
+        }
+        else{
+            Chunk chunk = chunkAt(index);
+            chunk.items[offset] = next;
+        }
+    }
+
+    /**
+     * Delete will delete the object at a given index without returning it.
+     *
+     * @param int index of object to be deleted
+     * @return Nothing
+     */
+    @Override
+    public void delete(int index){
+        //check index range
+        if(!insideRange(index, "Failed to delete node: ")){
+            return;
+        }
+
+        if(count == 0){
+            fail("Failed to delete node: ", "Can't delete from empty " +
+                " list");
+        }
+        else if(index == count){
+            fail("Failed to delete node: ", "Outside of list range");
+        }
+        else{
+            shiftList(index);
+        }
+    }
+
+    /**
+     * insideRange will check to make sure a given index is within the
+     * valid range. The valid range is greater than zero and less than
+     * or equal to the size of the list. An index outside of it is
+     * reported through the error policy.
+     *
+     * @param int index to check
+     * @param String action what the index is for, used in the report
+     * @return boolean true if inside valid range
+     */
+    private boolean insideRange(int index, String action){
+        if(index < 0){
+            fail(action, "Index outside of list range -"
+                + " must be greater than zero");
+            return false;
+        }
+
+        if(index > count){
+            fail(action, "Index outside of list range -"
+                + " must be less than size");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove will take the object at a specified index out of the list
+     * and return it.
+     *
+     * @param int index of object to remove
+     * @return T object at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @Override
+    public T remove(int index){
+        //check index range
+        if(!insideRange(index, "Failed to remove node: ")){
+            return null;
+        }
+
+        if(count == 0){
+            fail("Failed to remove node: ", "Can't remove from empty " +
+                " list");
+            return null;
+        }
+        else if(index == count){
+            fail("Failed to remove node: ", "Outside of list range");
+            return null;
+        }
+
+        return shiftList(index);
+    }
+
+    /**
+     * get will return the object at a specified index without changing
+     * the list.
+     *
+     * @param int index of object to read
+     * @return T object at specified index, null if index is invalid
+     * @exception reported by the error policy when given invalid index
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index){
+        //check index range
+        if(!insideRange(index, "Failed to get node: ")){
+            return null;
+        }
+
+        if(index == count){
+            fail("Failed to get node: ", "Outside of list range");
+            return null;
+        }
+
+        Chunk chunk = chunkAt(index);
+        return (T) chunk.items[offset];
+    }
+
+    /**
+     * setErrorPolicy picks what the list does when an operation can't be
+     * done. Lists start out logging to System.err.
+     *
+     * @param ErrorPolicy policy to use from now on
+     * @return Nothing
+     */
+    @Override
+    public void setErrorPolicy(ErrorPolicy policy){
+        errorPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * getErrorPolicy returns what the list does when an operation can't
+     * be done.
+     *
+     * @return ErrorPolicy policy in use
+     */
+    @Override
+    public ErrorPolicy getErrorPolicy(){
+        return errorPolicy;
+    }
+
+    /**
+     * fail reports an operation that couldn't be done the way the error
+     * policy says to. Nothing is built unless the policy needs it.
+     *
+     * @param String action what was being done, printed before the reason
+     * @param String reason why it couldn't be done
+     * @return Nothing
+     */
+    protected void fail(String action, String reason){
+        errorPolicy.report(action, reason);
+    }
+
+    /**
+     * chunkAt will walk the chunks from whichever end of the list is
+     * closer until it reaches the chunk holding the given index. The
+     * position of the index inside that chunk is left in offset.
+     *
+     * @param int index of object to find
+     * @return Chunk holding the specified index
+     */
+    private Chunk chunkAt(int index){
+        Chunk position;
+
+        if(index < count / 2){
+            //Closer to the tail so count up from index zero
+            position = tail;
+            while(index >= position.used){
+                index -= position.used;
+                position = position.back;
+            }
+            offset = index;
+        }else{
+            //Closer to the head so count down from the last index
+            position = head;
+            int above = count - 1 - index;
+            while(above >= position.used){
+                above -= position.used;
+                position = position.link;
+            }
+            offset = position.used - 1 - above;
+        }
+
+        return position;
+    }
+
+    /**
+     * shiftList will take the object at a specified index out of its
+     * chunk, shifting the items above it down by one. An emptied chunk is
+     * unlinked and one that is under half full is merged with a neighbour
+     * if they fit together.
+     *
+     * @param int index of object to shift from
+     * @return T object that was removed
+     */
+    @SuppressWarnings("unchecked")
+    private T shiftList(int index){
+        Chunk chunk = chunkAt(index);
+        T retVal = (T) chunk.items[offset];
+
+        //Close the gap and clear the old last slot so it can be collected
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset,
+            chunk.used - offset - 1);
+        chunk.items[--chunk.used] = null;
+        count--;
+
+        if(chunk.used == 0){
+            unlink(chunk);
+        }
+        else if(chunk.used < chunkSize / 2){
+            if(chunk.back != null
+                && chunk.used + chunk.back.used <= chunkSize){
+                merge(chunk, chunk.back);
+            }
+            else if(chunk.link != null
+                && chunk.link.used + chunk.used <= chunkSize){
+                merge(chunk.link, chunk);
+            }
+        }
+
+        return retVal;
+    }
+
+    /**
+     * merge moves every item of a chunk onto the end of the chunk before
+     * it and unlinks the emptied chunk.
+     *
+     * @param Chunk lower chunk that keeps the items
+     * @param Chunk upper chunk directly after it, which is removed
+     */
+    private void merge(Chunk lower, Chunk upper){
+        System.arraycopy(upper.items, 0, lower.items, lower.used,
+            upper.used);
+        lower.used += upper.used;
+        unlink(upper);
+    }
+
+    /**
+     * unlink joins the chunks on either side of a chunk, moving the head
+     * or tail if the chunk was at an end.
+     *
+     * @param Chunk chunk to remove from the list
+     */
+    private void unlink(Chunk chunk){
+        if(chunk.back == null){
+            head = chunk.link;
+        }else{
+            chunk.back.link = chunk.link;
+        }
+
+        if(chunk.link == null){
+            tail = chunk.back;
+        }else{
+            chunk.link.back = chunk.back;
+        }
+    }
+
+    /**
+     * toString will enumerate the list from the last index down and return
+     * it as a string with values separated by white space, the same order
+     * List uses.
+     *
+     * @return String enumeration of list
+     */
+    @Override
+    public String toString(){
+        StringBuilder retVal = new StringBuilder();
+
+        for(Chunk position = head; position != null;
+            position = position.link){
+            for(int i = position.used - 1; i >= 0; i--){
+                retVal.append(position.items[i]).append(' ');
+            }
+        }
+
+        return retVal.toString();
+    }
+
+    /**
+     * indexOf will find the highest index holding an object equal to the
+     * target, scanning each chunk's array from the top down.
+     *
+     * @param Object target to look for
+     * @return int index of target, -1 if it isn't in the list
+     */
+    @Override
+    public int indexOf(Object target){
+        int index = count;
+
+        for(Chunk position = head; position != null;
+            position = position.link){
+            index -= position.used;
+            for(int i = position.used - 1; i >= 0; i--){
+                if(Objects.equals(position.items[i], target)){
+                    return index + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    public static void main(String[] args){
+        UnrolledList<Integer> a = new UnrolledList<Integer>(4);
+
+        //Size, Append, Insert Tests
+        System.out.println("\n Size/Removal/Insert Tests \n");
+        assert(a.size() == 0): "Size should be zero";
+        assert(a.isEmpty()): "List should be empty";
+
+        for(int j = 0; j < 10; j++){
+            a.append(j);
+        }
+        a.insert(50, 5);
+        a.insert(10, 10);
+        a.insert(1, -1);
+        assert(a.size() == 11): "Size should be 11";
+        System.out.println(a.toString());
+
+        //Removal Tests
+        System.out.println("\n Removal Tests \n");
+        assert(a.remove(5) == 50): "Index 5 should equal 50";
+        assert(a.remove(0) == 0): "Index 0 should equal 0";
+        assert(a.remove(8) == 10): "Index 8 should equal 10";
+        assert(a.remove(8) == null): "Removal should return null";
+        a.setErrorPolicy(ErrorPolicy.SILENT);
+        assert(a.remove(-1) == null): "SILENT should carry on";
+        a.setErrorPolicy(ErrorPolicy.THROW);
+        try{
+            a.delete(8);
+            assert(false): "THROW policy should throw";
+        }catch(LinkedListException e){
+            assert(e.getMessage().equals("Outside of list range")):
+                "message should say why";
+        }
+        a.setErrorPolicy(ErrorPolicy.LOG);
+        a.delete(3);
+        assert(a.size() == 7): "Size should be 7";
+        System.out.println(a.toString());
+
+        //Chunks should merge back together as items are removed
+        while(a.size() > 2){
+            a.delete(1);
+        }
+        assert(a.head == a.tail): "Two items should fit in one chunk";
+
+        //indexOf Tests
+        System.out.println("\n indexOf Tests \n");
+        assert(a.indexOf(1) == 0): "index of 1 should be 0";
+        assert(a.indexOf(9) == 1): "index of 9 should be 1";
+        assert(a.indexOf(-4) == -1): "index of not found should be -1";
+        a.delete(0);
+        a.delete(0);
+        assert(a.isEmpty() && a.head == null): "List should be empty";
+
+        //Each kind of list behaves the same behind Sequence
+        ArrayList<Sequence<Integer>> kinds = new ArrayList<Sequence<Integer>>();
+        kinds.add(new List<Integer>());
+        kinds.add(new UnrolledList<Integer>(4));
+        kinds.add(new IndexedSkipList<Integer>());
+        for(Sequence<Integer> kind : kinds){
+            kind.setErrorPolicy(ErrorPolicy.SILENT);
+            for(int j = 0; j < 20; j++){
+                kind.append(j);
+            }
+            kind.insert(70, 7);
+            kind.delete(0);
+            assert(kind.remove(3) == 4 && kind.get(5) == 70
+                && kind.indexOf(19) == 17 && kind.size() == 18):
+                "same results through Sequence";
+            assert(kind.get(18) == null && kind.remove(-1) == null):
+                "misses should go to the error policy";
+            assert(kind.toString().equals(kinds.get(0).toString())):
+                "same order through Sequence";
+        }
+
+        //Scan Tests
+        System.out.println("\n Scan Tests \n");
+        List<Integer> linked = new List<Integer>();
+        UnrolledList<Integer> unrolled = new UnrolledList<Integer>();
+        for(int j = 0; j < 1000000; j++){
+            linked.append(j);
+            unrolled.append(j);
+        }
+
+        //Search for a missing item so each scan covers the whole list
+        for(int round = 0; round < 3; round++){
+            long begin = System.nanoTime();
+            linked.indexOf(-1);
+            long linkedTime = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            unrolled.indexOf(-1);
+            long unrolledTime = System.nanoTime() - begin;
+
+            System.out.println("Full scan of 1000000: List "
+                + linkedTime / 1000 + "us, UnrolledList "
+                + unrolledTime / 1000 + "us");
+        }
+    }
+}
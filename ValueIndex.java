@@ -0,0 +1,440 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * ValueIndex maps each value in a list to the indexes it's found at, so
+ * the list can answer contains and indexOf without a scan. It is only
+ * made when a list turns its index on, so lists that never look items up
+ * by value don't pay for it.
+ *
+ * Rather than indexes the index stores ordinals. Every append takes the
+ * next ordinal and index zero always has the lowest one, so an item's
+ * index is its ordinal minus the ordinal of index zero. That means the
+ * changes a queue or stack makes, adding at one end and taking from
+ * either end, never shift any stored ordinal. For each value the
+ * ordinals are kept in order so the first and last index of a value are
+ * at either end of its run.
+ *
+ * Removing from the middle of a list would shift the index of every item
+ * after it. Instead its ordinal is kept as a hole: an index is its
+ * ordinal minus the ordinal of index zero and the holes below it, found
+ * by a binary search of the holes, so a removal only drops one ordinal
+ * and adds one hole. Once there are more holes than items, or an item
+ * is inserted in the middle, the ordinals are marked stale and rebuilt in
+ * one pass at the next indexOf. The number of times each value is in the
+ * list is kept current through every change, so contains never waits on
+ * a rebuild.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+class ValueIndex
+{
+    /**
+     * Run holds the ordinals of one value in increasing order, and how
+     * many times the value is in the list. The first and last ordinals
+     * are taken off by moving the ends, which covers the changes a queue
+     * or stack makes.
+     */
+    private static class Run
+    {
+        private long[] ordinals = new long[2];
+        private int start = 0;
+        private int end = 0;
+
+        //Times the value is in the list, current even when stale
+        private int count = 0;
+
+        /**
+         * isEmpty checks whether the run has any ordinals left.
+         *
+         * @return boolean true if there are none
+         */
+        public boolean isEmpty(){
+            return start == end;
+        }
+
+        /**
+         * size gives the number of ordinals in the run.
+         *
+         * @return int ordinals in the run
+         */
+        public int size(){
+            return end - start;
+        }
+
+        /**
+         * addLast adds an ordinal higher than any already in the run.
+         *
+         * @param long ordinal to add
+         */
+        public void addLast(long ordinal){
+            if(end == ordinals.length){
+                makeRoom();
+            }
+            ordinals[end++] = ordinal;
+        }
+
+        /**
+         * removeFirst takes the lowest ordinal off the run.
+         */
+        public void removeFirst(){
+            start++;
+        }
+
+        /**
+         * removeLast takes the highest ordinal off the run.
+         */
+        public void removeLast(){
+            end--;
+        }
+
+        /**
+         * add puts an ordinal into its place in the run.
+         *
+         * @param long ordinal to add
+         */
+        public void add(long ordinal){
+            if(end == ordinals.length){
+                makeRoom();
+            }
+
+            int place = find(ordinal);
+            if(place < 0){
+                place = -place - 1;
+            }
+
+            System.arraycopy(ordinals, place, ordinals, place + 1,
+                end - place);
+            ordinals[place] = ordinal;
+            end++;
+        }
+
+        /**
+         * remove takes an ordinal out of the run if it's there.
+         *
+         * @param long ordinal to remove
+         */
+        public void remove(long ordinal){
+            int place = find(ordinal);
+
+            if(place == start){
+                start++;
+            }
+            else if(place >= 0){
+                System.arraycopy(ordinals, place + 1, ordinals, place,
+                    end - place - 1);
+                end--;
+            }
+        }
+
+        /**
+         * find does a binary search of the run for an ordinal.
+         *
+         * @param long ordinal to look for
+         * @return int where it is, or -(where it would go) - 1
+         */
+        private int find(long ordinal){
+            int low = start;
+            int high = end - 1;
+
+            while(low <= high){
+                int middle = (low + high) >>> 1;
+
+                if(ordinals[middle] < ordinal){
+                    low = middle + 1;
+                }
+                else if(ordinals[middle] > ordinal){
+                    high = middle - 1;
+                }
+                else{
+                    return middle;
+                }
+            }
+
+            return -low - 1;
+        }
+
+        /**
+         * makeRoom slides the run back to the front of its array if
+         * ordinals have been taken off the start, or else doubles it.
+         */
+        private void makeRoom(){
+            if(start > 0){
+                System.arraycopy(ordinals, start, ordinals, 0, end - start);
+                end -= start;
+                start = 0;
+            }else{
+                ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+            }
+        }
+    }
+
+    //Runs of ordinals for each value in the list
+    private final HashMap<Object, Run> runs = new HashMap<Object, Run>();
+
+    //Ordinal of the item at index zero
+    private long base = 0;
+
+    //Ordinal the next append will take
+    private long next = 0;
+
+    //Ordinals of items removed from the middle, in increasing order, all
+    //between the ordinals of the first and last items
+    private Run holes = new Run();
+
+    //Set when the ordinals can't follow a change, counts are still kept
+    private boolean stale = false;
+
+    /**
+     * isStale checks whether the ordinals have to be rebuilt before
+     * indexes are looked up.
+     *
+     * @return boolean true if the ordinals are out of date
+     */
+    public boolean isStale(){
+        return stale;
+    }
+
+    /**
+     * invalidate marks the ordinals out of date. Only the counts follow
+     * changes until it's rebuilt.
+     */
+    public void invalidate(){
+        stale = true;
+    }
+
+    /**
+     * clear empties the index to match an empty list. Stale ordinals are
+     * rebuilt by clearing the index and appending every value again.
+     */
+    public void clear(){
+        runs.clear();
+        holes = new Run();
+        base = 0;
+        next = 0;
+        stale = false;
+    }
+
+    /**
+     * runOf finds the run of a value, making an empty one if the value
+     * isn't in the list yet.
+     *
+     * @param Object value to look for
+     * @return Run of the value
+     */
+    private Run runOf(Object value){
+        Run run = runs.get(value);
+        if(run == null){
+            run = new Run();
+            runs.put(value, run);
+        }
+        return run;
+    }
+
+    /**
+     * counted takes one off the count of a value, dropping its run when
+     * none are left.
+     *
+     * @param Object value that was removed
+     * @return Run of the value, still holding its ordinals
+     */
+    private Run counted(Object value){
+        Run run = runs.get(value);
+        if(--run.count == 0){
+            runs.remove(value);
+        }
+        return run;
+    }
+
+    /**
+     * appended records a value added at the end of the list.
+     *
+     * @param Object value that was appended
+     */
+    public void appended(Object value){
+        Run run = runOf(value);
+        run.count++;
+
+        if(!stale){
+            run.addLast(next++);
+        }
+    }
+
+    /**
+     * inserted records a value added in the middle of the list. Every
+     * index above it shifts up, so the ordinals go stale.
+     *
+     * @param Object value that was inserted
+     */
+    public void inserted(Object value){
+        runOf(value).count++;
+        stale = true;
+    }
+
+    /**
+     * removedFirst records that the value at index zero was removed. It
+     * has the lowest ordinal of all, so it is the start of its run.
+     *
+     * @param Object value that was removed
+     */
+    public void removedFirst(Object value){
+        Run run = counted(value);
+        if(stale){
+            return;
+        }
+
+        run.removeFirst();
+        base++;
+
+        //Holes right above the old first item are below the new one
+        while(!holes.isEmpty() && holes.ordinals[holes.start] == base){
+            holes.removeFirst();
+            base++;
+        }
+    }
+
+    /**
+     * removedLast records that the value at the last index was removed.
+     * It has the highest ordinal of all, so it is the end of its run.
+     *
+     * @param Object value that was removed
+     */
+    public void removedLast(Object value){
+        Run run = counted(value);
+        if(stale){
+            return;
+        }
+
+        run.removeLast();
+        next--;
+
+        //Holes right below the old last item are above the new one
+        while(!holes.isEmpty() && holes.ordinals[holes.end - 1] == next - 1){
+            holes.removeLast();
+            next--;
+        }
+    }
+
+    /**
+     * removed records that the value at an index in the middle of the
+     * list was removed. Its ordinal becomes a hole, so no other ordinal
+     * changes.
+     *
+     * @param int index that was removed
+     * @param Object value that was removed
+     */
+    public void removed(int index, Object value){
+        Run run = counted(value);
+        if(stale){
+            return;
+        }
+
+        long ordinal = ordinalOf(index);
+        run.remove(ordinal);
+        holes.add(ordinal);
+
+        //Rebuilding is cheaper than searching more holes than items
+        if(holes.size() > next - base - holes.size()){
+            stale = true;
+        }
+    }
+
+    /**
+     * replaced records that the value at an index was changed.
+     *
+     * @param int index that was changed
+     * @param Object old value that was there
+     * @param Object value that replaced it
+     */
+    public void replaced(int index, Object old, Object value){
+        if(Objects.equals(old, value)){
+            return;
+        }
+
+        Run run = counted(old);
+        Run replacement = runOf(value);
+        replacement.count++;
+        if(stale){
+            return;
+        }
+
+        long ordinal = ordinalOf(index);
+        run.remove(ordinal);
+        replacement.add(ordinal);
+    }
+
+    /**
+     * ordinalOf finds the ordinal of the item at an index. The holes
+     * below it are found by a binary search for the last hole with no
+     * more than index items below it.
+     *
+     * @param int index of an item in the list
+     * @return long ordinal of the item
+     */
+    private long ordinalOf(int index){
+        int low = holes.start;
+        int high = holes.end;
+
+        while(low < high){
+            int middle = (low + high) >>> 1;
+            long below = holes.ordinals[middle] - base
+                - (middle - holes.start);
+
+            if(below <= index){
+                low = middle + 1;
+            }else{
+                high = middle;
+            }
+        }
+
+        return base + index + (low - holes.start);
+    }
+
+    /**
+     * indexOf turns the ordinal of an item into its index.
+     *
+     * @param long ordinal of an item in the list
+     * @return int index of the item
+     */
+    private int indexOf(long ordinal){
+        int holesBelow = -holes.find(ordinal) - 1 - holes.start;
+        return (int) (ordinal - base - holesBelow);
+    }
+
+    /**
+     * contains checks whether a value is anywhere in the list. It works
+     * from the counts, so it never needs a rebuild.
+     *
+     * @param Object value to look for
+     * @return boolean true if the value is in the list
+     */
+    public boolean contains(Object value){
+        return runs.containsKey(value);
+    }
+
+    /**
+     * firstIndexOf finds the lowest index holding a value. The ordinals
+     * must not be stale.
+     *
+     * @param Object value to look for
+     * @return int lowest index of value, -1 if it isn't in the list
+     */
+    public int firstIndexOf(Object value){
+        Run run = runs.get(value);
+        return run == null ? -1 : indexOf(run.ordinals[run.start]);
+    }
+
+    /**
+     * lastIndexOf finds the highest index holding a value. The ordinals
+     * must not be stale.
+     *
+     * @param Object value to look for
+     * @return int highest index of value, -1 if it isn't in the list
+     */
+    public int lastIndexOf(Object value){
+        Run run = runs.get(value);
+        return run == null ? -1 : indexOf(run.ordinals[run.end - 1]);
+    }
+}
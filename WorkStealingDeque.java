@@ -0,0 +1,369 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * WorkStealingDeque is a task stack for one worker thread that other
+ * threads can take work from. The owner pushes and pops at the top like a
+ * Stack, newest first, without any compare and set except when it takes
+ * the very last item. Idle threads steal the oldest item from the bottom,
+ * which in a fork and join style scheduler is usually the biggest piece
+ * of work left, and race each other with a compare and set on the bottom
+ * index.
+ *
+ * This is the Chase-Lev deque. Items sit in a circular array indexed by
+ * two counters that only grow: top is the next slot the owner pushes into
+ * and bottom is the next slot a thief takes from. The array doubles when
+ * the owner fills it, and thieves reading the old array still find the
+ * items they raced for because the old array is never written again.
+ *
+ * Only the owner may call push and pop. Any thread may call steal.
+ *
+ * @author Connor Teal
+ * @version October 18, 2026
+ */
+public class WorkStealingDeque<T>
+{
+    //Slots made by the no argument constructor
+    private static final int INITIAL_CAPACITY = 32;
+
+    //Lets thieves and the owner race on bottom without a lock object
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> BOTTOM =
+        AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class,
+            "bottom");
+
+    //Circular array of items, replaced by a bigger one when it fills
+    private volatile Object[] items;
+
+    //Next slot a thief steals from, the oldest item
+    private volatile long bottom = 0;
+
+    //Next slot the owner pushes into, one past the newest item
+    private volatile long top = 0;
+
+    /**
+     * No argument constructor creates an empty deque with room for a few
+     * items before it needs to grow.
+     */
+    public WorkStealingDeque(){
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Capacity argument constructor creates an empty deque with room for
+     * at least the given number of items, rounded up to a power of two.
+     *
+     * @param int capacity number of slots to start with
+     */
+    public WorkStealingDeque(int capacity){
+        int slots = Integer.highestOneBit(Math.max(2, capacity));
+        if(slots < capacity){
+            slots <<= 1;
+        }
+        items = new Object[slots];
+    }
+
+    /**
+     * push adds an item to the top of the deque. Only the owner may push.
+     * Writing top after the item is what lets thieves see the item.
+     *
+     * @param T next item to be added
+     * @return Nothing
+     */
+    public void push(T next){
+        long t = top;
+        long b = bottom;
+        Object[] array = items;
+
+        if(t - b >= array.length - 1){
+            array = grow(array, b, t);
+        }
+
+        array[(int) t & (array.length - 1)] = next;
+        top = t + 1;
+    }
+
+    /**
+     * grow copies the items into an array twice the size. Thieves still
+     * holding the old array can finish with it, since it isn't changed.
+     *
+     * @param Object[] array full array of items
+     * @param long b bottom counter
+     * @param long t top counter
+     * @return Object[] new array, already in use
+     */
+    private Object[] grow(Object[] array, long b, long t){
+        Object[] bigger = new Object[array.length * 2];
+
+        for(long i = b; i < t; i++){
+            bigger[(int) i & (bigger.length - 1)] =
+                array[(int) i & (array.length - 1)];
+        }
+
+        items = bigger;
+        return bigger;
+    }
+
+    /**
+     * pop takes the newest item off the top of the deque. Only the owner
+     * may pop. It claims the top slot first and then checks whether a
+     * thief got there, and only races thieves with a compare and set when
+     * one item was left.
+     *
+     * @return T newest item, null if the deque was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop(){
+        long t = top - 1;
+        Object[] array = items;
+
+        //Claim the slot before looking at how far thieves have got
+        top = t;
+        long b = bottom;
+
+        if(b > t){
+            //Empty, put top back
+            top = t + 1;
+            return null;
+        }
+
+        int slot = (int) t & (array.length - 1);
+        T retVal = (T) array[slot];
+
+        if(b == t){
+            //Last item, a thief may be after it too
+            if(!BOTTOM.compareAndSet(this, b, b + 1)){
+                retVal = null;
+            }
+            top = t + 1;
+        }
+
+        if(retVal != null){
+            array[slot] = null;
+        }
+        return retVal;
+    }
+
+    /**
+     * steal takes the oldest item off the bottom of the deque. Any thread
+     * may steal. When another thief or the owner wins the race for the
+     * item it gives up rather than trying again, so a thief can move on
+     * to another deque.
+     *
+     * @return T oldest item, null if the deque was empty or the race lost
+     */
+    @SuppressWarnings("unchecked")
+    public T steal(){
+        long b = bottom;
+        long t = top;
+
+        if(b >= t){
+            return null;
+        }
+
+        Object[] array = items;
+        T retVal = (T) array[(int) b & (array.length - 1)];
+
+        if(!BOTTOM.compareAndSet(this, b, b + 1)){
+            return null;
+        }
+        return retVal;
+    }
+
+    /**
+     * size gives the number of items in the deque. With other threads
+     * running it may be out of date as soon as it returns.
+     *
+     * @return int number of items
+     */
+    public int size(){
+        return (int) Math.max(0, top - bottom);
+    }
+
+    /**
+     * isEmpty checks whether the deque has no items. With other threads
+     * running the answer may be out of date as soon as it returns.
+     *
+     * @return boolean true if deque is empty
+     */
+    public boolean isEmpty(){
+        return top <= bottom;
+    }
+
+    /**
+     * Worker runs tasks for the scheduler demo. It pops its own tasks and
+     * steals from a random other worker when it runs out. A task is the
+     * depth of a binary tree still to be split: it pushes two tasks one
+     * level down until it reaches a leaf, and leaves do a little work.
+     */
+    private static class Worker extends Thread
+    {
+        private final WorkStealingDeque<Integer> deque =
+            new WorkStealingDeque<Integer>();
+        private final Worker[] all;
+        private final AtomicLong leavesLeft;
+        private long ran = 0;
+        private long stolen = 0;
+        private long checksum = 0;
+
+        /**
+         * Full argument constructor makes a worker sharing a pool.
+         *
+         * @param Worker[] all every worker in the pool, this one included
+         * @param AtomicLong leavesLeft leaves not yet run by any worker
+         */
+        public Worker(Worker[] all, AtomicLong leavesLeft){
+            this.all = all;
+            this.leavesLeft = leavesLeft;
+        }
+
+        @Override
+        public void run(){
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            while(leavesLeft.get() > 0){
+                Integer task = deque.pop();
+
+                if(task == null){
+                    Worker victim = all[random.nextInt(all.length)];
+                    if(victim == this
+                        || (task = victim.deque.steal()) == null){
+                        Thread.yield();
+                        continue;
+                    }
+                    stolen++;
+                }
+
+                ran++;
+                if(task > 0){
+                    deque.push(task - 1);
+                    deque.push(task - 1);
+                }else{
+                    //A little work for each leaf
+                    long x = task + ran;
+                    for(int i = 0; i < 200; i++){
+                        x = x * 6364136223846793005L + 1442695040888963407L;
+                    }
+                    checksum += x;
+                    leavesLeft.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * schedule runs a tree of tasks over a pool of workers, starting with
+     * all of the work on the first worker, and prints how the work was
+     * spread.
+     *
+     * @param int workers number of worker threads
+     * @param int depth depth of the task tree
+     * @return long nanoseconds taken
+     * @throws InterruptedException if interrupted waiting for workers
+     */
+    private static long schedule(int workers, int depth)
+        throws InterruptedException{
+        AtomicLong leavesLeft = new AtomicLong(1L << depth);
+        Worker[] pool = new Worker[workers];
+        for(int i = 0; i < workers; i++){
+            pool[i] = new Worker(pool, leavesLeft);
+        }
+        pool[0].deque.push(depth);
+
+        long start = System.nanoTime();
+        for(Worker worker : pool){
+            worker.start();
+        }
+        for(Worker worker : pool){
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long ran = 0;
+        StringBuilder spread = new StringBuilder();
+        for(Worker worker : pool){
+            ran += worker.ran;
+            spread.append(' ').append(worker.ran).append('/')
+                .append(worker.stolen);
+        }
+        assert(ran == (2L << depth) - 1): "every task should run once";
+
+        System.out.println(workers + " workers: " + elapsed / 1000000
+            + " ms, tasks run/stolen per worker:" + spread);
+        return elapsed;
+    }
+
+    public static void main(String[] args) throws InterruptedException{
+        WorkStealingDeque<Integer> a = new WorkStealingDeque<Integer>(2);
+
+        //Owner Tests
+        assert(a.isEmpty() && a.pop() == null && a.steal() == null):
+            "new deque should be empty";
+        for(int i = 0; i < 100; i++){
+            a.push(i);
+        }
+        assert(a.size() == 100): "deque should grow to 100";
+        assert(a.pop() == 99): "owner should pop the newest";
+        assert(a.steal() == 0): "thief should steal the oldest";
+        assert(a.steal() == 1 && a.pop() == 98): "both ends keep working";
+        int left = 0;
+        while(a.pop() != null){
+            left++;
+        }
+        assert(left == 96): "pops should take what's left";
+        assert(a.isEmpty() && a.steal() == null): "a should be empty";
+
+        //Owner and thieves together should take every item exactly once
+        final WorkStealingDeque<Integer> shared =
+            new WorkStealingDeque<Integer>();
+        final int items = 200000;
+        final boolean[] seen = new boolean[items];
+        final int[] stolen = new int[3];
+        final AtomicBoolean done = new AtomicBoolean(false);
+        Thread[] thieves = new Thread[stolen.length];
+        for(int t = 0; t < thieves.length; t++){
+            final int id = t;
+            thieves[t] = new Thread(() -> {
+                while(!done.get() || !shared.isEmpty()){
+                    Integer next = shared.steal();
+                    if(next != null){
+                        synchronized(seen){
+                            assert(!seen[next]): "item taken twice";
+                            seen[next] = true;
+                        }
+                        stolen[id]++;
+                    }
+                }
+            });
+            thieves[t].start();
+        }
+        for(int i = 0; i < items; i++){
+            shared.push(i);
+            if(i % 3 == 0){
+                Integer next = shared.pop();
+                if(next != null){
+                    synchronized(seen){
+                        assert(!seen[next]): "item taken twice";
+                        seen[next] = true;
+                    }
+                }
+            }
+        }
+        done.set(true);
+        for(Thread thief : thieves){
+            thief.join();
+        }
+        for(boolean item : seen){
+            assert(item): "every item should be taken";
+        }
+
+        //Scheduler demo: all the work starts on one worker and spreads
+        int processors = Runtime.getRuntime().availableProcessors();
+        long single = schedule(1, 18);
+        long spread = schedule(Math.max(2, processors), 18);
+        System.out.println("speedup with " + Math.max(2, processors)
+            + " workers: " + String.format("%.2f", (double) single / spread));
+    }
+}